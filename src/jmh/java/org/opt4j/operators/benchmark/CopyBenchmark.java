@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.benchmark;
+
+import org.opt4j.core.genotype.ListGenotype;
+import org.opt4j.operators.copy.CopyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the {@link CopyList} operator.
+ * 
+ * @author diewald
+ * 
+ */
+@State(Scope.Thread)
+public class CopyBenchmark extends OperatorBenchmark {
+
+	@Param({ "Boolean", "Double", "Integer", "Permutation" })
+	public String genotype;
+
+	protected CopyList copy;
+
+	protected ListGenotype<?> original;
+
+	@Setup
+	public void setup() {
+		init();
+		copy = new CopyList();
+		original = (ListGenotype<?>) genotype(genotype);
+	}
+
+	@Benchmark
+	public ListGenotype<?> copy() {
+		return copy.copy(original);
+	}
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.benchmark;
+
+import org.opt4j.core.Genotype;
+import org.opt4j.operators.crossover.Crossover;
+import org.opt4j.operators.crossover.CrossoverBooleanRate;
+import org.opt4j.operators.crossover.CrossoverBooleanXPoint;
+import org.opt4j.operators.crossover.CrossoverDoubleBLX;
+import org.opt4j.operators.crossover.CrossoverDoubleSBX;
+import org.opt4j.operators.crossover.CrossoverDoubleSBXBounded;
+import org.opt4j.operators.crossover.CrossoverDoubleUnfairAverage;
+import org.opt4j.operators.crossover.CrossoverIntegerRate;
+import org.opt4j.operators.crossover.CrossoverIntegerXPoint;
+import org.opt4j.operators.crossover.CrossoverPermutationBucket;
+import org.opt4j.operators.crossover.CrossoverPermutationCycle;
+import org.opt4j.operators.crossover.CrossoverPermutationEdgeRecombination;
+import org.opt4j.operators.crossover.CrossoverPermutationOnePoint;
+import org.opt4j.operators.crossover.CrossoverPermutationOrder;
+import org.opt4j.operators.crossover.CrossoverPermutationPMX;
+import org.opt4j.operators.crossover.Pair;
+import org.opt4j.operators.normalize.NormalizeDouble;
+import org.opt4j.operators.normalize.NormalizeDoubleBorder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of the {@link Crossover} operators.
+ * 
+ * @author diewald
+ * 
+ */
+@State(Scope.Thread)
+public class CrossoverBenchmark extends OperatorBenchmark {
+
+	@Param({ "BooleanRate", "BooleanXPoint", "IntegerRate", "IntegerXPoint", "DoubleSBX", "DoubleSBXBounded",
+			"DoubleBLX", "DoubleUnfairAverage", "PermutationOnePoint", "PermutationBucket", "PermutationPMX",
+			"PermutationOrder", "PermutationCycle", "PermutationEdgeRecombination" })
+	public String operator;
+
+	protected Crossover<Genotype> crossover;
+
+	protected Genotype parent1;
+
+	protected Genotype parent2;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		init();
+		NormalizeDouble normalize = new NormalizeDoubleBorder();
+		Crossover<?> crossover;
+		String kind;
+
+		switch (operator) {
+		case "BooleanRate":
+			crossover = new CrossoverBooleanRate(0.5, random);
+			kind = "Boolean";
+			break;
+		case "BooleanXPoint":
+			crossover = new CrossoverBooleanXPoint(1, random);
+			kind = "Boolean";
+			break;
+		case "IntegerRate":
+			crossover = new CrossoverIntegerRate(0.5, random);
+			kind = "Integer";
+			break;
+		case "IntegerXPoint":
+			crossover = new CrossoverIntegerXPoint(1, random);
+			kind = "Integer";
+			break;
+		case "DoubleSBX":
+			crossover = new CrossoverDoubleSBX(15, normalize, random);
+			kind = "Double";
+			break;
+		case "DoubleSBXBounded":
+			crossover = new CrossoverDoubleSBXBounded(15, normalize, random);
+			kind = "Double";
+			break;
+		case "DoubleBLX":
+			crossover = new CrossoverDoubleBLX(0.5, normalize, random);
+			kind = "Double";
+			break;
+		case "DoubleUnfairAverage":
+			crossover = new CrossoverDoubleUnfairAverage(0.5, normalize, random);
+			kind = "Double";
+			break;
+		case "PermutationOnePoint":
+			crossover = new CrossoverPermutationOnePoint(random, false);
+			kind = "Permutation";
+			break;
+		case "PermutationBucket":
+			crossover = new CrossoverPermutationBucket(random);
+			kind = "Permutation";
+			break;
+		case "PermutationPMX":
+			crossover = new CrossoverPermutationPMX(random);
+			kind = "Permutation";
+			break;
+		case "PermutationOrder":
+			crossover = new CrossoverPermutationOrder(random);
+			kind = "Permutation";
+			break;
+		case "PermutationCycle":
+			crossover = new CrossoverPermutationCycle();
+			kind = "Permutation";
+			break;
+		case "PermutationEdgeRecombination":
+			crossover = new CrossoverPermutationEdgeRecombination(random);
+			kind = "Permutation";
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown operator: " + operator);
+		}
+
+		this.crossover = (Crossover<Genotype>) crossover;
+		parent1 = genotype(kind);
+		parent2 = genotype(kind);
+	}
+
+	@Benchmark
+	public void crossover(Blackhole blackhole) {
+		Pair<Genotype> offspring = crossover.crossover(parent1, parent2);
+		blackhole.consume(offspring.getFirst());
+		blackhole.consume(offspring.getSecond());
+	}
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.benchmark;
+
+import org.opt4j.core.Genotype;
+import org.opt4j.operators.diversity.Diversity;
+import org.opt4j.operators.diversity.DiversityBooleanFraction;
+import org.opt4j.operators.diversity.DiversityDoubleAbsolute;
+import org.opt4j.operators.diversity.DiversityDoubleEuclidean;
+import org.opt4j.operators.diversity.DiversityIntegerEuclidean;
+import org.opt4j.operators.diversity.DiversityPermutation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the {@link Diversity} operators.
+ * 
+ * @author diewald
+ * 
+ */
+@State(Scope.Thread)
+public class DiversityBenchmark extends OperatorBenchmark {
+
+	@Param({ "BooleanFraction", "DoubleAbsolute", "DoubleEuclidean", "IntegerEuclidean", "Permutation" })
+	public String operator;
+
+	protected Diversity<Genotype> diversity;
+
+	protected Genotype a;
+
+	protected Genotype b;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		init();
+		Diversity<?> diversity;
+		String kind;
+
+		switch (operator) {
+		case "BooleanFraction":
+			diversity = new DiversityBooleanFraction();
+			kind = "Boolean";
+			break;
+		case "DoubleAbsolute":
+			diversity = new DiversityDoubleAbsolute();
+			kind = "Double";
+			break;
+		case "DoubleEuclidean":
+			diversity = new DiversityDoubleEuclidean();
+			kind = "Double";
+			break;
+		case "IntegerEuclidean":
+			diversity = new DiversityIntegerEuclidean();
+			kind = "Integer";
+			break;
+		case "Permutation":
+			diversity = new DiversityPermutation();
+			kind = "Permutation";
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown operator: " + operator);
+		}
+
+		this.diversity = (Diversity<Genotype>) diversity;
+		a = genotype(kind);
+		b = genotype(kind);
+	}
+
+	@Benchmark
+	public double diversity() {
+		return diversity.diversity(a, b);
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.benchmark;
+
+import org.opt4j.core.Genotype;
+import org.opt4j.operators.mutate.Mutate;
+import org.opt4j.operators.mutate.MutateBoolean;
+import org.opt4j.operators.mutate.MutateDoubleGauss;
+import org.opt4j.operators.mutate.MutateDoublePolynomial;
+import org.opt4j.operators.mutate.MutateIntegerRandom;
+import org.opt4j.operators.mutate.MutatePermutationInsert;
+import org.opt4j.operators.mutate.MutatePermutationMixed;
+import org.opt4j.operators.mutate.MutatePermutationRevert;
+import org.opt4j.operators.mutate.MutatePermutationSwap;
+import org.opt4j.operators.normalize.NormalizeDouble;
+import org.opt4j.operators.normalize.NormalizeDoubleBorder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the {@link Mutate} operators. The genotype is mutated in place
+ * with the rate {@code 1/size}.
+ * 
+ * @author diewald
+ * 
+ */
+@State(Scope.Thread)
+public class MutateBenchmark extends OperatorBenchmark {
+
+	@Param({ "Boolean", "IntegerRandom", "DoublePolynomial", "DoubleGauss", "PermutationSwap", "PermutationInsert",
+			"PermutationRevert", "PermutationMixed" })
+	public String operator;
+
+	protected Mutate<Genotype> mutate;
+
+	protected Genotype genotype;
+
+	protected double p;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		init();
+		NormalizeDouble normalize = new NormalizeDoubleBorder();
+		Mutate<?> mutate;
+		String kind;
+
+		switch (operator) {
+		case "Boolean":
+			mutate = new MutateBoolean(random);
+			kind = "Boolean";
+			break;
+		case "IntegerRandom":
+			mutate = new MutateIntegerRandom(random);
+			kind = "Integer";
+			break;
+		case "DoublePolynomial":
+			mutate = new MutateDoublePolynomial(random, normalize, 20);
+			kind = "Double";
+			break;
+		case "DoubleGauss":
+			mutate = new MutateDoubleGauss(random, normalize, 0.1);
+			kind = "Double";
+			break;
+		case "PermutationSwap":
+			mutate = new MutatePermutationSwap(random);
+			kind = "Permutation";
+			break;
+		case "PermutationInsert":
+			mutate = new MutatePermutationInsert(random);
+			kind = "Permutation";
+			break;
+		case "PermutationRevert":
+			mutate = new MutatePermutationRevert(random);
+			kind = "Permutation";
+			break;
+		case "PermutationMixed":
+			mutate = new MutatePermutationMixed(new MutatePermutationSwap(random), new MutatePermutationInsert(random),
+					new MutatePermutationRevert(random), random);
+			kind = "Permutation";
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown operator: " + operator);
+		}
+
+		this.mutate = (Mutate<Genotype>) mutate;
+		genotype = genotype(kind);
+		p = 1.0 / size;
+	}
+
+	@Benchmark
+	public Genotype mutate() {
+		mutate.mutate(genotype, p);
+		return genotype;
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.benchmark;
+
+import org.opt4j.core.Genotype;
+import org.opt4j.operators.neighbor.Neighbor;
+import org.opt4j.operators.neighbor.NeighborBoolean;
+import org.opt4j.operators.neighbor.NeighborDouble;
+import org.opt4j.operators.neighbor.NeighborIntegerRandom;
+import org.opt4j.operators.neighbor.NeighborPermutationInsert;
+import org.opt4j.operators.neighbor.NeighborPermutationMixed;
+import org.opt4j.operators.neighbor.NeighborPermutationRevert;
+import org.opt4j.operators.neighbor.NeighborPermutationSwap;
+import org.opt4j.operators.normalize.NormalizeDoubleBorder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the {@link Neighbor} operators. The genotype is changed in
+ * place.
+ * 
+ * @author diewald
+ * 
+ */
+@State(Scope.Thread)
+public class NeighborBenchmark extends OperatorBenchmark {
+
+	@Param({ "Boolean", "Double", "IntegerRandom", "PermutationSwap", "PermutationInsert", "PermutationRevert",
+			"PermutationMixed" })
+	public String operator;
+
+	protected Neighbor<Genotype> neighbor;
+
+	protected Genotype genotype;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		init();
+		Neighbor<?> neighbor;
+		String kind;
+
+		switch (operator) {
+		case "Boolean":
+			neighbor = new NeighborBoolean(random);
+			kind = "Boolean";
+			break;
+		case "Double":
+			neighbor = new NeighborDouble(new NormalizeDoubleBorder(), random);
+			kind = "Double";
+			break;
+		case "IntegerRandom":
+			neighbor = new NeighborIntegerRandom(random);
+			kind = "Integer";
+			break;
+		case "PermutationSwap":
+			neighbor = new NeighborPermutationSwap(random);
+			kind = "Permutation";
+			break;
+		case "PermutationInsert":
+			neighbor = new NeighborPermutationInsert(random);
+			kind = "Permutation";
+			break;
+		case "PermutationRevert":
+			neighbor = new NeighborPermutationRevert(random);
+			kind = "Permutation";
+			break;
+		case "PermutationMixed":
+			neighbor = new NeighborPermutationMixed(new NeighborPermutationSwap(random),
+					new NeighborPermutationInsert(random), new NeighborPermutationRevert(random), random);
+			kind = "Permutation";
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown operator: " + operator);
+		}
+
+		this.neighbor = (Neighbor<Genotype>) neighbor;
+		genotype = genotype(kind);
+	}
+
+	@Benchmark
+	public Genotype neighbor() {
+		neighbor.neighbor(genotype);
+		return genotype;
+	}
+}
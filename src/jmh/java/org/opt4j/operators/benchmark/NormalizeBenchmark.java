@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.benchmark;
+
+import org.opt4j.core.genotype.DoubleGenotype;
+import org.opt4j.operators.normalize.NormalizeDouble;
+import org.opt4j.operators.normalize.NormalizeDoubleBorder;
+import org.opt4j.operators.normalize.NormalizeDoubleMirror;
+import org.opt4j.operators.normalize.NormalizeDoubleWrap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the {@link NormalizeDouble} operators. Since the normalization
+ * works in place, each invocation first restores the (partially out of bounds)
+ * values of a template. The restore is included in the measured time; it does
+ * not allocate since the boxed values are shared.
+ * 
+ * @author diewald
+ * 
+ */
+@State(Scope.Thread)
+public class NormalizeBenchmark extends OperatorBenchmark {
+
+	@Param({ "Border", "Mirror", "Wrap" })
+	public String operator;
+
+	protected NormalizeDouble normalize;
+
+	protected DoubleGenotype template;
+
+	protected DoubleGenotype genotype;
+
+	@Setup
+	public void setup() {
+		init();
+
+		switch (operator) {
+		case "Border":
+			normalize = new NormalizeDoubleBorder();
+			break;
+		case "Mirror":
+			normalize = new NormalizeDoubleMirror();
+			break;
+		case "Wrap":
+			normalize = new NormalizeDoubleWrap();
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown operator: " + operator);
+		}
+
+		template = doubleGenotype();
+		for (int i = 0; i < size; i++) {
+			// Map [0,1] to [-0.5,1.5] such that half of the values are out of bounds.
+			template.set(i, template.get(i) * 2 - 0.5);
+		}
+		genotype = doubleGenotype();
+	}
+
+	@Benchmark
+	public DoubleGenotype normalize() {
+		for (int i = 0; i < size; i++) {
+			genotype.set(i, template.get(i));
+		}
+		normalize.normalize(genotype);
+		return genotype;
+	}
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.opt4j.core.Genotype;
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.common.random.RandomJava;
+import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.core.genotype.DoubleGenotype;
+import org.opt4j.core.genotype.IntegerGenotype;
+import org.opt4j.core.genotype.PermutationGenotype;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link OperatorBenchmark} is the base class of the operator benchmarks.
+ * Each benchmark is parameterized with the {@link #size} of the
+ * {@link Genotype}s such that the {@link OperatorBenchmarks} runner can report
+ * the time per gene.
+ * 
+ * @author diewald
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class OperatorBenchmark {
+
+	/**
+	 * The seed of the random number generator of all benchmarks.
+	 */
+	public static final long SEED = 42;
+
+	/**
+	 * The number of genes of the {@link Genotype}s.
+	 */
+	@Param({ "10", "100", "1000", "10000", "100000", "1000000" })
+	public int size;
+
+	protected Rand random;
+
+	/**
+	 * Creates a new random number generator with the {@link #SEED}.
+	 */
+	protected void init() {
+		random = new RandomJava(SEED);
+	}
+
+	protected BooleanGenotype booleanGenotype() {
+		BooleanGenotype genotype = new BooleanGenotype();
+		genotype.init(random, size);
+		return genotype;
+	}
+
+	protected DoubleGenotype doubleGenotype() {
+		DoubleGenotype genotype = new DoubleGenotype(0, 1);
+		genotype.init(random, size);
+		return genotype;
+	}
+
+	protected IntegerGenotype integerGenotype() {
+		IntegerGenotype genotype = new IntegerGenotype(0, 100);
+		genotype.init(random, size);
+		return genotype;
+	}
+
+	protected PermutationGenotype<Integer> permutationGenotype() {
+		PermutationGenotype<Integer> genotype = new PermutationGenotype<Integer>();
+		for (int i = 0; i < size; i++) {
+			genotype.add(i);
+		}
+		genotype.init(random);
+		return genotype;
+	}
+
+	/**
+	 * Creates a {@link Genotype} of the given kind.
+	 * 
+	 * @param kind
+	 *            the kind ({@code Boolean}, {@code Double}, {@code Integer},
+	 *            or {@code Permutation})
+	 * @return the genotype
+	 */
+	protected Genotype genotype(String kind) {
+		switch (kind) {
+		case "Boolean":
+			return booleanGenotype();
+		case "Double":
+			return doubleGenotype();
+		case "Integer":
+			return integerGenotype();
+		case "Permutation":
+			return permutationGenotype();
+		default:
+			throw new IllegalArgumentException("Unknown genotype: " + kind);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The {@link OperatorBenchmarks} runs the operator benchmarks with the
+ * {@link GCProfiler} and prints the time per gene and the allocated bytes per
+ * operation. The arguments are passed to JMH, e.g., {@code Crossover -p
+ * size=1000} runs the crossover benchmarks for genotypes with 1000 genes.
+ * Without a benchmark pattern, all benchmarks of this package are run.
+ * 
+ * @author diewald
+ * 
+ */
+public class OperatorBenchmarks {
+
+	protected static final String ALLOCATION = "gc.alloc.rate.norm";
+
+	/**
+	 * Runs the benchmarks.
+	 * 
+	 * @param args
+	 *            the JMH command line arguments
+	 * @throws RunnerException
+	 *             if the benchmarks fail
+	 * @throws CommandLineOptionException
+	 *             if the arguments are invalid
+	 */
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions cmd = new CommandLineOptions(args);
+		OptionsBuilder builder = new OptionsBuilder();
+		builder.parent(cmd);
+		builder.addProfiler(GCProfiler.class);
+		if (cmd.getIncludes().isEmpty()) {
+			builder.include(OperatorBenchmarks.class.getPackage().getName() + ".*Benchmark\\.");
+		}
+		Options options = builder.build();
+
+		Collection<RunResult> results = new Runner(options).run();
+		print(results);
+	}
+
+	/**
+	 * Prints the time per gene and the allocated bytes per operation of each
+	 * result.
+	 * 
+	 * @param results
+	 *            the results of the benchmarks
+	 */
+	protected static void print(Collection<RunResult> results) {
+		List<String> lines = new ArrayList<String>();
+		lines.add(String.format("%-40s %-22s %8s %14s %12s %14s", "Benchmark", "Operator", "Size", "ns/op", "ns/gene",
+				"B/op"));
+
+		for (RunResult result : results) {
+			BenchmarkParams params = result.getParams();
+			String benchmark = params.getBenchmark();
+			benchmark = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+			String operator = params.getParam("operator");
+			if (operator == null) {
+				operator = params.getParam("genotype");
+			}
+			int size = Integer.parseInt(params.getParam("size"));
+
+			double time = result.getPrimaryResult().getScore();
+			double bytes = Double.NaN;
+			for (Entry<String, Result> secondary : result.getSecondaryResults().entrySet()) {
+				if (secondary.getKey().endsWith(ALLOCATION)) {
+					bytes = secondary.getValue().getScore();
+				}
+			}
+
+			lines.add(String.format("%-40s %-22s %8d %14.1f %12.3f %14.1f", benchmark, operator, size, time,
+					time / size, bytes));
+		}
+
+		System.out.println();
+		for (String line : lines) {
+			System.out.println(line);
+		}
+	}
+}
@@ -26,17 +26,24 @@ package org.opt4j.operators;
 import static com.google.common.collect.MultimapBuilder.hashKeys;
 import static com.google.common.collect.MultimapBuilder.treeKeys;
 
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.opt4j.core.Genotype;
 import org.opt4j.core.Individual;
 import org.opt4j.core.genotype.CompositeGenotype;
@@ -44,9 +51,11 @@ import org.opt4j.core.optimizer.IncompatibilityException;
 import org.opt4j.core.optimizer.Operator;
 import org.opt4j.core.start.Opt4JTask;
 import org.opt4j.core.start.Parameters;
+import org.opt4j.operators.metrics.OperatorMetrics;
 import org.opt4j.operators.selection.IOperatorSelector;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Multimap;
 import com.google.inject.Inject;
 
@@ -94,15 +103,224 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 
 	}
 
-	protected Map<SimpleEntry<Class<? extends Genotype>, Class<? extends Operator<?>>>, IOperatorSelector>
+	/**
+	 * The resolved dispatch for one concrete {@link Genotype} class: the
+	 * {@link Operator}s found via the registered classes, superclasses, and
+	 * {@link OperatorClassDeterminedPredicate}s together with the {@link IOperatorSelector} that is bound for them.
+	 * Instances are immutable and shared between all calls for the class.
+	 *
+	 * @author diewald
+	 *
+	 * @param <O>
+	 *            The specified {@link Operator}.
+	 */
+	protected static class OperatorDispatch<O extends Operator<?>> {
+
+		protected final List<O> operators;
+
+		protected final IOperatorSelector selector;
+
+		protected final boolean complete;
+
+		/**
+		 * Constructs an {@link OperatorDispatch}.
+		 *
+		 * @param operators
+		 *            the applicable operators (immutable)
+		 * @param selector
+		 *            the selector for the operators or {@code null}
+		 * @param complete
+		 *            {@code true} if no predicate has to be evaluated for
+		 *            instances of the class
+		 */
+		protected OperatorDispatch(List<O> operators, IOperatorSelector selector, boolean complete) {
+			this.operators = operators;
+			this.selector = selector;
+			this.complete = complete;
+		}
+
+		/**
+		 * Returns the operators resolved for the class.
+		 *
+		 * @return the operators
+		 */
+		public List<O> getOperators() {
+			return operators;
+		}
+
+		/**
+		 * Returns the {@link IOperatorSelector} for the operators.
+		 *
+		 * @return the selector or {@code null} if none is bound
+		 */
+		public IOperatorSelector getSelector() {
+			return selector;
+		}
+
+		/**
+		 * Returns {@code true} if the operators do not depend on the
+		 * {@link Genotype} instance, i.e., no {@link OperatorPredicate} has to
+		 * be evaluated per call.
+		 *
+		 * @return {@code true} if the dispatch is complete
+		 */
+		public boolean isComplete() {
+			return complete;
+		}
+	}
+
+	/**
+	 * The {@link CompositePlan} caches the {@link OperatorDispatch} for each
+	 * child of a {@link CompositeGenotype} in iteration order, such that the
+	 * traversal of composites does not have to look up the dispatch per child.
+	 * A plan is a hint only: a child whose class differs from the planned
+	 * class is resolved regularly and invalidates the plan.
+	 * 
+	 * @author diewald
+	 * 
+	 * @param <O>
+	 *            The specified {@link Operator}.
+	 */
+	protected static class CompositePlan<O extends Operator<?>> {
+
+		protected final Class<?>[] classes;
+
+		protected final OperatorDispatch<O>[] dispatches;
+
+		protected volatile boolean valid = true;
+
+		/**
+		 * Constructs a {@link CompositePlan}.
+		 * 
+		 * @param classes
+		 *            the classes of the children
+		 * @param dispatches
+		 *            the dispatches of the children ({@code null} for
+		 *            composite children)
+		 */
+		protected CompositePlan(Class<?>[] classes, OperatorDispatch<O>[] dispatches) {
+			this.classes = classes;
+			this.dispatches = dispatches;
+		}
+
+		/**
+		 * Returns {@code true} if all children matched the plan so far.
+		 * 
+		 * @return {@code true} if the plan is valid
+		 */
+		public boolean isValid() {
+			return valid;
+		}
+	}
+
+	/**
+	 * The {@link CompositeCursor} walks the children of a
+	 * {@link CompositeGenotype} in parallel to the traversal of another
+	 * composite (in the child order of its {@link CompositePlan}), such that
+	 * the corresponding children do not have to be looked up by key. If a
+	 * child does not have the expected key, the cursor looks up this and all
+	 * following children by key.
+	 * 
+	 * @author diewald
+	 * 
+	 */
+	protected static class CompositeCursor {
+
+		protected final CompositeGenotype<?, ?> composite;
+
+		protected Iterator<? extends Entry<?, ? extends Genotype>> entries;
+
+		/**
+		 * Constructs a {@link CompositeCursor}.
+		 * 
+		 * @param composite
+		 *            the composite genotype
+		 */
+		public CompositeCursor(CompositeGenotype<?, ?> composite) {
+			this.composite = composite;
+			this.entries = composite.iterator();
+		}
+
+		/**
+		 * Returns the next child which is expected to have the given key.
+		 * 
+		 * @param key
+		 *            the key of the child
+		 * @return the child or {@code null} if the composite has no child
+		 *         with the given key
+		 */
+		public Genotype next(Object key) {
+			if (entries != null && entries.hasNext()) {
+				Entry<?, ? extends Genotype> entry = entries.next();
+				Object k = entry.getKey();
+				if (k == key || (k != null && k.equals(key))) {
+					return entry.getValue();
+				}
+			}
+			// The composite may be modified from now on.
+			entries = null;
+			return composite.get(key);
+		}
+	}
+
+	/*
+	 * The registry is copy-on-write: the maps below are never modified after
+	 * they have been published, but replaced as a whole under the lock of
+	 * this operator. Readers can thus access them without synchronization
+	 * from multiple threads.
+	 */
+	protected volatile Map<SimpleEntry<Class<? extends Genotype>, Class<? extends Operator<?>>>, IOperatorSelector>
 			operatorSelectors;
-	protected Multimap<Class<? extends Genotype>, O> classOperators =
-			treeKeys(new ClassComparator()).arrayListValues().build();
-	protected Multimap<OperatorPredicate, O> genericOperators =
-			hashKeys().arrayListValues().build();
+	protected volatile Multimap<Class<? extends Genotype>, O> classOperators = newClassOperators();
+	protected volatile Multimap<OperatorPredicate, O> genericOperators = newGenericOperators();
+	protected volatile Multimap<OperatorPredicate, O> determinedOperators = newGenericOperators();
+
+	/**
+	 * Cache of the resolved {@link OperatorDispatch} per concrete
+	 * {@link Genotype} class. It is replaced by an empty cache whenever
+	 * operators or selectors change.
+	 */
+	protected volatile ConcurrentMap<Class<? extends Genotype>, OperatorDispatch<O>> dispatchCache =
+			new ConcurrentHashMap<>();
+
+	/**
+	 * Cache of the {@link CompositePlan} per {@link CompositeGenotype} class.
+	 * It is replaced together with the {@link #dispatchCache}.
+	 */
+	protected volatile ConcurrentMap<Class<?>, CompositePlan<O>> compositePlans = new ConcurrentHashMap<>();
 
 	protected List<Class<? extends Q>> cldef = new ArrayList<Class<? extends Q>>();
 
+	/**
+	 * The default operators that are not instantiated yet, indexed by their
+	 * target {@link Genotype} class. An operator is instantiated when the
+	 * dispatch for a subclass of its target is resolved the first time.
+	 */
+	protected volatile Multimap<Class<? extends Genotype>, Class<? extends Q>> pendingOperators =
+			newClassOperators();
+
+	protected Opt4JTask opt4JTask;
+
+	/**
+	 * The targets of the operator classes as resolved from the {@link Apply}
+	 * annotation or the type parameter of the {@link Operator} ({@code null}
+	 * if the target cannot be determined from the class alone). The index is
+	 * computed once per class and shared by all generic operators.
+	 */
+	protected static final ClassValue<Class<? extends Genotype>> TARGETS =
+			new ClassValue<Class<? extends Genotype>>() {
+				@Override
+				protected Class<? extends Genotype> computeValue(Class<?> type) {
+					return resolveTarget(type);
+				}
+			};
+
+	/**
+	 * The metrics of the dispatched operators or {@code null} if they are not
+	 * recorded.
+	 */
+	protected OperatorMetrics metrics = null;
+
 	/**
 	 * Constructs an {@link AbstractGenericOperator} class with the given
 	 * clazzes of default operators.
@@ -126,14 +344,87 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 	@Inject
 	protected synchronized void inject(OperatorHolder<Q> holder) {
 		if (classOperators.isEmpty()) {
-			classOperators.put(CompositeGenotype.class, null);
-			holder.add(cldef);
+			addOperator(new OperatorClassPredicate(CompositeGenotype.class), null);
+			opt4JTask = holder.opt4JTask;
+
+			Multimap<Class<? extends Genotype>, Class<? extends Q>> pending = newClassOperators();
+			for (Class<? extends Q> clazz : cldef) {
+				Class<? extends Genotype> target = TARGETS.get(clazz);
+				if (target != null) {
+					pending.put(target, clazz);
+				} else {
+					Q operator = opt4JTask.getInstance(clazz);
+					addOperator(new OperatorClassPredicate(getTarget(operator)), (O) operator);
+				}
+			}
+			pendingOperators = pending;
 
 			for (Entry<OperatorPredicate, Collection<Q>> entry : holder.getMap().asMap().entrySet()) {
 				entry.getValue().forEach( v -> addOperator(entry.getKey(), (O)v));
 			}
 		}
 		this.operatorSelectors = holder.getSelectors();
+		invalidate();
+	}
+
+	/**
+	 * Sets the {@link OperatorMetrics}. The metrics are only injected if an
+	 * implementation is bound.
+	 * 
+	 * @param metrics
+	 *            the operator metrics
+	 */
+	@Inject(optional = true)
+	public void setMetrics(OperatorMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Starts a {@link Timer} for the invocation of a dispatched operator.
+	 * 
+	 * @return the timer or {@code null} if no metrics are recorded
+	 */
+	protected Timer startTimer() {
+		OperatorMetrics metrics = this.metrics;
+		return metrics == null ? null : new Timer(metrics);
+	}
+
+	/**
+	 * The {@link Timer} measures the latency and the allocated bytes of a
+	 * single invocation of a dispatched operator for the
+	 * {@link OperatorMetrics} (see {@link AbstractGenericOperator#startTimer()}
+	 * ).
+	 * 
+	 * @author diewald
+	 * 
+	 */
+	protected static final class Timer {
+
+		private final OperatorMetrics metrics;
+
+		private final long bytes;
+
+		private final long start;
+
+		private Timer(OperatorMetrics metrics) {
+			this.metrics = metrics;
+			this.bytes = metrics.allocatedBytes();
+			this.start = System.nanoTime();
+		}
+
+		/**
+		 * Stops the timer and records the invocation.
+		 * 
+		 * @param genotype
+		 *            the (first) processed genotype
+		 * @param operator
+		 *            the invoked operator
+		 */
+		public void stop(Genotype genotype, Object operator) {
+			long nanos = System.nanoTime() - start;
+			metrics.record(genotype.getClass(), operator.getClass(), genotype.size(), nanos,
+					metrics.allocatedBytes() - bytes);
+		}
 	}
 
 	/*
@@ -144,13 +435,25 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 	 * org.opt4j.core.optimizer.Operator)
 	 */
 	@Override
-	public void addOperator(OperatorPredicate predicate, O operator) {
+	public synchronized void addOperator(OperatorPredicate predicate, O operator) {
 		if (predicate instanceof OperatorClassPredicate) {
 			Class<? extends Genotype> clazz = ((OperatorClassPredicate) predicate).getClazz();
-			classOperators.put(clazz, operator);
+			Multimap<Class<? extends Genotype>, O> operators = newClassOperators();
+			operators.putAll(classOperators);
+			operators.put(clazz, operator);
+			classOperators = operators;
+		} else if (predicate instanceof OperatorClassDeterminedPredicate) {
+			Multimap<OperatorPredicate, O> operators = newGenericOperators();
+			operators.putAll(determinedOperators);
+			operators.put(predicate, operator);
+			determinedOperators = operators;
 		} else {
-			genericOperators.put(predicate, operator);
+			Multimap<OperatorPredicate, O> operators = newGenericOperators();
+			operators.putAll(genericOperators);
+			operators.put(predicate, operator);
+			genericOperators = operators;
 		}
+		invalidate();
 	}
 	
 	/*
@@ -160,9 +463,57 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 	 * .Genotype, org.opt4j.operator.selection.IOperatorSelector)
 	 */
 	@Override
-	public void addOperatorSelector(SimpleEntry<Class<? extends Genotype>, Class<? extends Operator<?>>>
+	public synchronized void addOperatorSelector(SimpleEntry<Class<? extends Genotype>, Class<? extends Operator<?>>>
 			selectorKey, IOperatorSelector selector) {
-		operatorSelectors.put(selectorKey, selector);
+		Map<SimpleEntry<Class<? extends Genotype>, Class<? extends Operator<?>>>, IOperatorSelector> selectors =
+				new HashMap<>(operatorSelectors);
+		selectors.put(selectorKey, selector);
+		operatorSelectors = selectors;
+		invalidate();
+	}
+
+	/**
+	 * Returns the {@link IOperatorSelector}s that are registered for this
+	 * operator.
+	 * 
+	 * @return the selectors
+	 */
+	public Collection<IOperatorSelector> getOperatorSelectors() {
+		Map<SimpleEntry<Class<? extends Genotype>, Class<? extends Operator<?>>>, IOperatorSelector> selectors =
+				operatorSelectors;
+		if (selectors == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableCollection(selectors.values());
+	}
+
+	/**
+	 * Creates an empty multimap for the class operators.
+	 * 
+	 * @return the multimap
+	 */
+	protected static <O> Multimap<Class<? extends Genotype>, O> newClassOperators() {
+		return treeKeys(new ClassComparator()).arrayListValues().build();
+	}
+
+	/**
+	 * Creates an empty multimap for the predicate operators.
+	 * 
+	 * @return the multimap
+	 */
+	protected static <O> Multimap<OperatorPredicate, O> newGenericOperators() {
+		return hashKeys().arrayListValues().build();
+	}
+
+	/**
+	 * Drops all resolved {@link OperatorDispatch}es. Must be called after the
+	 * registry has been replaced: a reader that obtained the new cache is then
+	 * guaranteed to also see the new registry.
+	 */
+	protected void invalidate() {
+		dispatchCache = new ConcurrentHashMap<>();
+		// The plans refer to dispatches, so they are replaced last.
+		compositePlans = new ConcurrentHashMap<>();
 	}
 
 	/*
@@ -178,46 +529,272 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 		if(genotype instanceof CompositeGenotype) {
 			return null;
 		}
-		
+
+		return getOperator(getDispatch(genotype.getClass()), genotype);
+	}
+
+	/**
+	 * Returns the {@link Operator} for a specific {@link Genotype} from its
+	 * already resolved {@link OperatorDispatch}. This allows batch operations
+	 * to resolve the dispatch only once per genotype class.
+	 * 
+	 * @param dispatch
+	 *            the dispatch for the class of the genotype
+	 * @param genotype
+	 *            the genotype
+	 * @return the operator for this genotype
+	 */
+	protected O getOperator(OperatorDispatch<O> dispatch, Genotype genotype) {
+		if (dispatch.isComplete()) {
+			return selectApplicableOperator(dispatch.getOperators(), dispatch.getSelector(), genotype);
+		}
+
+		// Search for a predicate that satisfies the genotype. The results of the
+		// class-determined predicates are already part of the dispatch.
 		List<O> applicableOperators = new ArrayList<>();
-		if (classOperators.containsKey(genotype.getClass())) {
-			applicableOperators.addAll(classOperators.get(genotype.getClass()));
-		} else {
-			// Search for a predicate that satisfies the genotype.
-			for (Entry<OperatorPredicate, O> predicate : genericOperators.entries()) {
-				if (predicate.getKey().evaluate(genotype)) {
-					applicableOperators.add(predicate.getValue());
+		Multimap<OperatorPredicate, O> genericOperators = this.genericOperators;
+		for (Entry<OperatorPredicate, O> predicate : genericOperators.entries()) {
+			if (predicate.getKey().evaluate(genotype)) {
+				applicableOperators.add(predicate.getValue());
+			}
+		}
+		applicableOperators.addAll(dispatch.getOperators());
+
+		return selectApplicableOperator(applicableOperators, getSelector(genotype.getClass(), applicableOperators),
+				genotype);
+	}
+
+	/**
+	 * Returns the {@link OperatorDispatch} for the given {@link Genotype} or
+	 * {@code null} if it is a {@link CompositeGenotype}.
+	 * 
+	 * @param genotype
+	 *            the genotype
+	 * @return the dispatch for the class of the genotype
+	 */
+	protected OperatorDispatch<O> getDispatch(Genotype genotype) {
+		if (genotype instanceof CompositeGenotype) {
+			return null;
+		}
+		return getDispatch(genotype.getClass());
+	}
+
+	/**
+	 * Returns the {@link OperatorDispatch} for the given {@link Genotype}
+	 * class. The dispatch is resolved only once per class and served from the
+	 * {@link #dispatchCache} afterwards.
+	 * 
+	 * @param clazz
+	 *            the concrete genotype class
+	 * @return the dispatch for the class
+	 */
+	protected OperatorDispatch<O> getDispatch(Class<? extends Genotype> clazz) {
+		// Read the cache before the registry (see invalidate()).
+		ConcurrentMap<Class<? extends Genotype>, OperatorDispatch<O>> cache = dispatchCache;
+		OperatorDispatch<O> dispatch = cache.get(clazz);
+		if (dispatch == null) {
+			if (instantiateOperators(clazz)) {
+				// The registry and the cache have been replaced.
+				return getDispatch(clazz);
+			}
+			dispatch = resolveDispatch(clazz);
+			cache.put(clazz, dispatch);
+		}
+		return dispatch;
+	}
+
+	/**
+	 * Instantiates the pending default operators that are applicable to the
+	 * given {@link Genotype} class. The operators are instantiated without
+	 * holding the lock of this operator, since their construction may dispatch
+	 * through other generic operators. They are registered only if the pending
+	 * operators have not been changed concurrently, otherwise the remaining
+	 * pending operators are processed again.
+	 * 
+	 * @param clazz
+	 *            the concrete genotype class
+	 * @return {@code true} if operators have been instantiated and registered
+	 */
+	@SuppressWarnings("unchecked")
+	protected boolean instantiateOperators(Class<? extends Genotype> clazz) {
+		Multimap<Class<? extends Genotype>, Class<? extends Q>> current = pendingOperators;
+		while (!current.isEmpty()) {
+			Multimap<Class<? extends Genotype>, Class<? extends Q>> pending = newClassOperators();
+			List<Class<? extends Q>> classes = new ArrayList<>();
+			for (Entry<Class<? extends Genotype>, Class<? extends Q>> entry : current.entries()) {
+				if (clazz == null || entry.getKey().isAssignableFrom(clazz)) {
+					classes.add(entry.getValue());
+				} else {
+					pending.put(entry.getKey(), entry.getValue());
+				}
+			}
+			if (classes.isEmpty()) {
+				return false;
+			}
+
+			List<Q> operators = new ArrayList<>();
+			for (Class<? extends Q> operatorClass : classes) {
+				operators.add(opt4JTask.getInstance(operatorClass));
+			}
+
+			synchronized (this) {
+				if (pendingOperators == current) {
+					for (Q operator : operators) {
+						// The bound implementation may narrow the target.
+						addOperator(new OperatorClassPredicate(getTarget(operator)), (O) operator);
+					}
+					// Published last: a reader that sees the reduced pending
+					// operators also sees the registered operators.
+					pendingOperators = pending;
+					return true;
 				}
 			}
+			current = pendingOperators;
+		}
+		return false;
+	}
 
+	/**
+	 * Returns the {@link OperatorDispatch} of the child at the given position
+	 * of a {@link CompositeGenotype}. If the child does not match the
+	 * {@link CompositePlan}, its dispatch is resolved regularly and the plan is
+	 * invalidated.
+	 * 
+	 * @param plan
+	 *            the plan of the composite genotype
+	 * @param index
+	 *            the position of the child in iteration order
+	 * @param child
+	 *            the child genotype
+	 * @return the dispatch for the child or {@code null} if it is a
+	 *         {@link CompositeGenotype}
+	 */
+	protected OperatorDispatch<O> getDispatch(CompositePlan<O> plan, int index, Genotype child) {
+		if (index < plan.classes.length && plan.classes[index] == child.getClass()) {
+			return plan.dispatches[index];
+		}
+		plan.valid = false;
+		return getDispatch(child);
+	}
+
+	/**
+	 * Returns the {@link CompositePlan} for the given {@link CompositeGenotype}.
+	 * A plan is created on the first call for a composite class and whenever
+	 * the cached plan has been invalidated.
+	 * 
+	 * @param composite
+	 *            the composite genotype
+	 * @return the plan for the composite genotype
+	 */
+	protected CompositePlan<O> getPlan(CompositeGenotype<?, ?> composite) {
+		// Read the plans before the dispatches (see invalidate()).
+		ConcurrentMap<Class<?>, CompositePlan<O>> plans = compositePlans;
+		CompositePlan<O> plan = plans.get(composite.getClass());
+		if (plan == null || !plan.isValid()) {
+			plan = createPlan(composite);
+			plans.put(composite.getClass(), plan);
+		}
+		return plan;
+	}
+
+	/**
+	 * Creates the {@link CompositePlan} from the children of the given
+	 * {@link CompositeGenotype}.
+	 * 
+	 * @param composite
+	 *            the composite genotype
+	 * @return the plan for the composite genotype
+	 */
+	@SuppressWarnings("unchecked")
+	protected CompositePlan<O> createPlan(CompositeGenotype<?, ?> composite) {
+		int size = composite.keySet().size();
+		Class<?>[] classes = new Class<?>[size];
+		OperatorDispatch<O>[] dispatches = (OperatorDispatch<O>[]) new OperatorDispatch<?>[size];
+
+		int i = 0;
+		for (Entry<?, ? extends Genotype> entry : composite) {
+			Genotype child = entry.getValue();
+			classes[i] = child.getClass();
+			dispatches[i] = getDispatch(child);
+			i++;
+		}
+		return new CompositePlan<O>(classes, dispatches);
+	}
+
+	/**
+	 * Resolves the {@link OperatorDispatch} for a {@link Genotype} class from
+	 * the registered class operators. If the class itself is not registered,
+	 * the {@link OperatorClassDeterminedPredicate}s are evaluated for the class
+	 * and all registered superclasses are considered in the order of the
+	 * {@link ClassComparator}.
+	 * 
+	 * @param clazz
+	 *            the concrete genotype class
+	 * @return the resolved dispatch
+	 */
+	protected OperatorDispatch<O> resolveDispatch(Class<? extends Genotype> clazz) {
+		Multimap<Class<? extends Genotype>, O> classOperators = this.classOperators;
+		List<O> operators = new ArrayList<>();
+		boolean exact = classOperators.containsKey(clazz);
+		if (exact) {
+			for (O operator : classOperators.get(clazz)) {
+				if (operator != null) {
+					operators.add(operator);
+				}
+			}
+		} else {
+			for (Entry<OperatorPredicate, O> entry : this.determinedOperators.entries()) {
+				if (((OperatorClassDeterminedPredicate) entry.getKey()).evaluate(clazz)) {
+					operators.add(entry.getValue());
+				}
+			}
 			// Searches for a superclass that is registered as an operator.
-			Collection<Entry<Class<? extends Genotype>, O>> newOperatorsDefs = null;
 			for (Entry<Class<? extends Genotype>, O> entry : classOperators.entries()) {
-				if(entry.getValue() == null) {
-					continue;
-				}
-				Class<? extends Genotype> c = entry.getKey();
-				if (c.isAssignableFrom(genotype.getClass())) {
-					if(newOperatorsDefs == null) {
-						newOperatorsDefs = new ArrayList<>();
-					}
-					O operator = entry.getValue();
-					SimpleEntry<Class<? extends Genotype>, O> newEntry =
-							new SimpleEntry<>(genotype.getClass(), operator);
-					newOperatorsDefs.add(newEntry);
-					applicableOperators.add(operator);
+				if (entry.getValue() != null && entry.getKey().isAssignableFrom(clazz)) {
+					operators.add(entry.getValue());
 				}
 			}
-			newOperatorsDefs.forEach(e -> classOperators.put(e.getKey(), e.getValue()));
 		}
-		if(applicableOperators.isEmpty()) {
-			throw new IncompatibilityException("No handler found for " + genotype.getClass() +
-					" in " + this.getClass());
+		boolean complete = exact || this.genericOperators.isEmpty();
+		return new OperatorDispatch<O>(ImmutableList.copyOf(operators), getSelector(clazz, operators), complete);
+	}
+
+	/**
+	 * Notifies the {@link IOperatorSelector} that is bound for the operators of
+	 * a {@link Genotype} that the given operator has produced an offspring
+	 * (see {@link IOperatorSelector#produced(Operator, Genotype)}).
+	 * 
+	 * @param dispatch
+	 *            the dispatch of the genotype
+	 * @param genotype
+	 *            the genotype the operator has been selected for
+	 * @param operator
+	 *            the operator
+	 * @param offspring
+	 *            the offspring produced by the operator
+	 */
+	protected void produced(OperatorDispatch<O> dispatch, Genotype genotype, O operator, Genotype offspring) {
+		IOperatorSelector selector = dispatch.isComplete() ? dispatch.getSelector()
+				: operatorSelectors.get(new SimpleEntry<Class<? extends Genotype>, Class<? extends Operator<?>>>(
+						genotype.getClass(), operator.getOperatorType()));
+		if (selector != null) {
+			selector.produced(operator, offspring);
 		}
-		
-		return selectApplicableOperator(applicableOperators, genotype);
 	}
-	
+
+	/**
+	 * Returns the {@link IOperatorSelector} registered for the {@link Genotype}
+	 * class and the type of the first applicable {@link Operator}.
+	 */
+	private IOperatorSelector getSelector(Class<? extends Genotype> clazz, List<O> applicableOperators) {
+		if (applicableOperators.isEmpty()) {
+			return null;
+		}
+		Class<? extends Operator<?>> operatorType = applicableOperators.get(0).getOperatorType();
+		return operatorSelectors.get(new SimpleEntry<Class<? extends Genotype>, Class<? extends Operator<?>>>(clazz,
+				operatorType));
+	}
+
 	/**
 	 * Returns an {@link Operator} from the given list of {@link Operator}s that are applicable to
 	 * the given {@link Genotype}. If multiple {@link Operator}s of the same type, such as
@@ -225,18 +802,19 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 	 * operator per round and {@link Individual}.
 	 * 
 	 * The selection logic is as follows:
-	 * * Get the registered {@link IOperatorSelector} if available.
+	 * * Throw an {@link IncompatibilityException} if no {@link Operator} is applicable.
 	 * * If no selector is defined and only one {@link Operator} is applicable select this
 	 *   {@link Operator}.
 	 * * If multiple {@link Operator}s are given, ensure the existence of an
 	 *   {@link IOperatorSelector} or throw an {@link IncompatibilityException}.
 	 * * Return the {@link Operator} selected by the registered {@link IOperatorSelector}.
 	 */
-	private O selectApplicableOperator(List<O> applicableOperators, Genotype genotype) {
-		Class<? extends Operator<?>> operatorType = applicableOperators.get(0).getOperatorType();
-		SimpleEntry<Class<? extends Genotype>, Class<? extends Operator<?>>> selectorKey =
-				new SimpleEntry<>(genotype.getClass(), operatorType);
-		IOperatorSelector operatorSelector = operatorSelectors.get(selectorKey);
+	private O selectApplicableOperator(List<O> applicableOperators, IOperatorSelector operatorSelector,
+			Genotype genotype) {
+		if(applicableOperators.isEmpty()) {
+			throw new IncompatibilityException("No handler found for " + genotype.getClass() +
+					" in " + this.getClass());
+		}
 		// Do not require an IOperatorSelector for 1:1 associations of Genotypes and Operators.
 		if(operatorSelector == null && applicableOperators.size() == 1) {
 			return applicableOperators.get(0);
@@ -256,9 +834,11 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 	 */
 	@Override
 	public Collection<O> getOperators() {
+		instantiateOperators(null);
 		Set<O> set = new HashSet<O>();
 		set.addAll(classOperators.values());
 		set.addAll(genericOperators.values());
+		set.addAll(determinedOperators.values());
 		return set;
 	}
 
@@ -273,10 +853,9 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 	 * @return the target genotype
 	 */
 	protected static <O> Class<? extends Genotype> getTarget(O operator) {
-		Apply apply = operator.getClass().getAnnotation(Apply.class);
-
-		if (apply != null) {
-			return apply.value();
+		Class<? extends Genotype> resolved = TARGETS.get(operator.getClass());
+		if (resolved != null) {
+			return resolved;
 		}
 
 		Type type = Parameters.getType(Operator.class, operator, "G");
@@ -290,6 +869,83 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 				+ " annotation to specify a target.");
 	}
 
+	/**
+	 * Resolves the target {@link Genotype} of an operator class from the
+	 * {@link Apply} annotation or the type arguments of its supertypes.
+	 * 
+	 * @param clazz
+	 *            the operator class
+	 * @return the target genotype or {@code null} if it cannot be determined
+	 *         from the class
+	 */
+	protected static Class<? extends Genotype> resolveTarget(Class<?> clazz) {
+		Apply apply = clazz.getAnnotation(Apply.class);
+
+		if (apply != null) {
+			return apply.value();
+		}
+
+		Type type = resolveOperatorType(clazz, Collections.<TypeVariable<?>, Type> emptyMap());
+		if (type instanceof ParameterizedType) {
+			type = ((ParameterizedType) type).getRawType();
+		}
+		if (type instanceof Class && Genotype.class.isAssignableFrom((Class<?>) type)) {
+			return ((Class<?>) type).asSubclass(Genotype.class);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the type argument of the {@link Operator} interface for the
+	 * given type by walking up its supertypes.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param bindings
+	 *            the type arguments of the subtype
+	 * @return the type argument or {@code null} if it is not found
+	 */
+	private static Type resolveOperatorType(Type type, Map<TypeVariable<?>, Type> bindings) {
+		Class<?> raw;
+		Map<TypeVariable<?>, Type> arguments = new HashMap<>();
+		if (type instanceof ParameterizedType) {
+			ParameterizedType parameterized = (ParameterizedType) type;
+			raw = (Class<?>) parameterized.getRawType();
+			TypeVariable<?>[] variables = raw.getTypeParameters();
+			Type[] actual = parameterized.getActualTypeArguments();
+			for (int i = 0; i < variables.length; i++) {
+				Type argument = actual[i];
+				if (argument instanceof TypeVariable && bindings.containsKey(argument)) {
+					argument = bindings.get(argument);
+				}
+				arguments.put(variables[i], argument);
+			}
+		} else if (type instanceof Class) {
+			raw = (Class<?>) type;
+		} else {
+			return null;
+		}
+
+		if (raw == Operator.class) {
+			return arguments.get(Operator.class.getTypeParameters()[0]);
+		} else if (!Operator.class.isAssignableFrom(raw)) {
+			return null;
+		}
+
+		List<Type> supertypes = new ArrayList<>();
+		if (raw.getGenericSuperclass() != null) {
+			supertypes.add(raw.getGenericSuperclass());
+		}
+		Collections.addAll(supertypes, raw.getGenericInterfaces());
+		for (Type supertype : supertypes) {
+			Type result = resolveOperatorType(supertype, arguments);
+			if (result != null) {
+				return result;
+			}
+		}
+		return null;
+	}
+
 	protected static class OperatorHolder<P> {
 
 		@Inject(optional = true)
@@ -308,12 +964,6 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 		@Inject
 		protected Opt4JTask opt4JTask;
 
-		protected Collection<Class<? extends P>> clazzes = new ArrayList<Class<? extends P>>();
-
-		public void add(Collection<Class<? extends P>> clazzes) {
-			this.clazzes.addAll(clazzes);
-		}
-
 		public Multimap<OperatorPredicate, P> getMap() {
 			Multimap<OperatorPredicate, P> multimap = HashMultimap.create();
 			if(this.multimap != null) {
@@ -327,11 +977,6 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 				}
 			}
 
-			for (Class<? extends P> clazz : clazzes) {
-				P p = opt4JTask.getInstance(clazz);
-				multimap.put(new OperatorClassPredicate(getTarget((Operator<?>) p)), p);
-			}
-			
 			Set<OperatorPredicate> replaceSet = new HashSet<>();
 			for (Entry<OperatorPredicate, P> entry : multimap.entries()) {
 				OperatorPredicate predicate = entry.getKey();
@@ -376,6 +1021,39 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 		public boolean evaluate(Genotype genotype);
 	}
 
+	/**
+	 * The {@link OperatorClassDeterminedPredicate} is an
+	 * {@link OperatorPredicate} whose result depends only on the class of the
+	 * {@link Genotype}. Its result is evaluated once per class and memoized,
+	 * while other predicates are evaluated for each {@link Genotype} instance.
+	 * 
+	 * @author diewald
+	 * 
+	 */
+	public interface OperatorClassDeterminedPredicate extends OperatorPredicate {
+
+		/**
+		 * Checks whether a {@link Genotype} class satisfies the predicate.
+		 * 
+		 * @param clazz
+		 *            the genotype class
+		 * @return {@code true} if the predicate is satisfied
+		 */
+		public boolean evaluate(Class<? extends Genotype> clazz);
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see
+		 * org.opt4j.operator.AbstractGenericOperator.OperatorPredicate#evaluate
+		 * (org.opt4j.core.problem.Genotype)
+		 */
+		@Override
+		public default boolean evaluate(Genotype genotype) {
+			return evaluate(genotype.getClass());
+		}
+	}
+
 	/**
 	 * The {@link OperatorVoidPredicate} interface is used as marker for
 	 * {@link Operator}s for which the predicate is not explicitly defined.
@@ -415,7 +1093,7 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 	 * @author lukasiewycz
 	 * 
 	 */
-	public static class OperatorClassPredicate implements OperatorPredicate {
+	public static class OperatorClassPredicate implements OperatorClassDeterminedPredicate {
 
 		protected final Class<? extends Genotype> clazz;
 
@@ -442,6 +1120,17 @@ public abstract class AbstractGenericOperator<O extends Operator<?>, Q extends O
 			return clazz.equals(genotype.getClass());
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.opt4j.operators.AbstractGenericOperator.
+		 * OperatorClassDeterminedPredicate#evaluate(java.lang.Class)
+		 */
+		@Override
+		public boolean evaluate(Class<? extends Genotype> clazz) {
+			return this.clazz.equals(clazz);
+		}
+
 		/**
 		 * Returns the genotype class for the operator.
 		 * 
@@ -35,6 +35,7 @@ import org.opt4j.core.config.annotations.Parent;
 import org.opt4j.core.optimizer.Operator;
 import org.opt4j.core.optimizer.OptimizerModule;
 import org.opt4j.core.start.Opt4JModule;
+import org.opt4j.operators.AbstractGenericOperator.OperatorClassDeterminedPredicate;
 import org.opt4j.operators.AbstractGenericOperator.OperatorClassPredicate;
 import org.opt4j.operators.AbstractGenericOperator.OperatorPredicate;
 import org.opt4j.operators.AbstractGenericOperator.OperatorVoidPredicate;
@@ -69,7 +70,9 @@ public abstract class OperatorModule<P extends Operator> extends Opt4JModule {
 
 	/**
 	 * Add an {@link Operator} and apply it to each {@link Genotype} that
-	 * satisfies the predicate.
+	 * satisfies the predicate. The result of an
+	 * {@link OperatorClassDeterminedPredicate} is evaluated only once per
+	 * {@link Genotype} class.
 	 * 
 	 * @param predicate
 	 *            the predicate
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators;
+
+/**
+ * The {@link Overrides} provides helper methods for operators that offer a
+ * faster path next to one of their overridable methods. The faster path may
+ * only be taken if a subclass does not override that method, otherwise the
+ * overriding method would be skipped silently. The result is determined once
+ * per class.
+ * 
+ * @author diewald
+ * 
+ */
+public class Overrides {
+
+	private Overrides() {
+	}
+
+	/**
+	 * Returns a {@link ClassValue} that is {@code true} for each subclass of
+	 * {@code base} that overrides the given method of {@code base}.
+	 * 
+	 * @param base
+	 *            the class that declares the method
+	 * @param name
+	 *            the name of the method
+	 * @param parameterTypes
+	 *            the parameter types of the method
+	 * @return the class value
+	 */
+	public static ClassValue<Boolean> of(final Class<?> base, final String name, final Class<?>... parameterTypes) {
+		return new ClassValue<Boolean>() {
+			@Override
+			protected Boolean computeValue(Class<?> type) {
+				return isOverridden(type, base, name, parameterTypes);
+			}
+		};
+	}
+
+	/**
+	 * Returns {@code true} if the given class or one of its superclasses below
+	 * {@code base} declares the given method.
+	 * 
+	 * @param clazz
+	 *            the class
+	 * @param base
+	 *            the class that declares the method
+	 * @param name
+	 *            the name of the method
+	 * @param parameterTypes
+	 *            the parameter types of the method
+	 * @return {@code true} if the method is overridden
+	 */
+	public static boolean isOverridden(Class<?> clazz, Class<?> base, String name, Class<?>... parameterTypes) {
+		for (Class<?> c = clazz; c != null && c != base; c = c.getSuperclass()) {
+			try {
+				c.getDeclaredMethod(name, parameterTypes);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// continue with the superclass
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The {@link PackedBooleans} provides helper methods for operators that
+ * process lists of {@link Boolean} values packed into {@code long} words with
+ * 64 values per word. The value at position {@code i} is stored in bit
+ * {@code i & 63} of word {@code i >>> 6}.
+ * 
+ * @author diewald
+ * 
+ */
+public class PackedBooleans {
+
+	private PackedBooleans() {
+	}
+
+	/**
+	 * Returns the number of words that are required for the given number of
+	 * values.
+	 * 
+	 * @param size
+	 *            the number of values
+	 * @return the number of words
+	 */
+	public static int words(int size) {
+		return (size + 63) >>> 6;
+	}
+
+	/**
+	 * Packs a list of values.
+	 * 
+	 * @param list
+	 *            the list of values
+	 * @return the packed words
+	 */
+	public static long[] pack(List<Boolean> list) {
+		int size = list.size();
+		long[] words = new long[words(size)];
+		for (int i = 0; i < size; i++) {
+			if (list.get(i)) {
+				words[i >>> 6] |= 1L << i;
+			}
+		}
+		return words;
+	}
+
+	/**
+	 * Appends the first {@code size} packed values to a list.
+	 * 
+	 * @param words
+	 *            the packed words
+	 * @param size
+	 *            the number of values
+	 * @param list
+	 *            the list
+	 */
+	public static void unpack(long[] words, int size, List<Boolean> list) {
+		if (list instanceof ArrayList) {
+			((ArrayList<Boolean>) list).ensureCapacity(list.size() + size);
+		}
+		for (int i = 0; i < size; i++) {
+			list.add((words[i >>> 6] & (1L << i)) != 0);
+		}
+	}
+
+	/**
+	 * Negates the values of a list at the positions of the set bits of the
+	 * mask. Only the negated positions are accessed.
+	 * 
+	 * @param mask
+	 *            the packed mask
+	 * @param list
+	 *            the list
+	 * @return {@code true} if a value has been negated
+	 */
+	public static boolean flip(long[] mask, List<Boolean> list) {
+		int size = list.size();
+		boolean changed = false;
+		for (int w = 0; w < mask.length; w++) {
+			long m = mask[w];
+			while (m != 0) {
+				int i = (w << 6) + Long.numberOfTrailingZeros(m);
+				if (i >= size) {
+					break;
+				}
+				list.set(i, !list.get(i));
+				changed = true;
+				m &= m - 1;
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Fills the words with independent bits that are set with the probability
+	 * {@code p}. The 64 bits of a word are generated in parallel by comparing
+	 * random words with the binary digits of {@code p}, starting with the most
+	 * significant digit, until all bits are decided. Thus, a word requires at
+	 * most as many random words as {@code p} has binary digits (see
+	 * {@link #digits(double)}), e.g., a single one for {@code p = 0.5}, and
+	 * about eight on average.
+	 * 
+	 * @param random
+	 *            the random number generator
+	 * @param p
+	 *            the probability of a set bit
+	 * @param words
+	 *            the words
+	 */
+	public static void bernoulli(Random random, double p, long[] words) {
+		for (int w = 0; w < words.length; w++) {
+			if (p >= 1) {
+				words[w] = -1L;
+				continue;
+			}
+
+			long result = 0;
+			long undecided = -1L;
+			double x = p;
+			while (undecided != 0 && x > 0) {
+				// The next binary digit of p (doubling and subtracting is exact).
+				x *= 2;
+				long r = random.nextLong();
+				if (x >= 1) {
+					x -= 1;
+					result |= undecided & ~r;
+					undecided &= r;
+				} else {
+					undecided &= ~r;
+				}
+			}
+			words[w] = result;
+		}
+	}
+
+	/**
+	 * Returns the number of binary digits of a probability {@code p} in
+	 * {@code (0,1)}, i.e., the smallest {@code k} with {@code p * 2^k} being
+	 * an integer.
+	 * 
+	 * @param p
+	 *            the probability
+	 * @return the number of binary digits
+	 */
+	public static int digits(double p) {
+		int digits = 0;
+		double x = p;
+		while (x > 0 && x < 1) {
+			x *= 2;
+			if (x >= 1) {
+				x -= 1;
+			}
+			digits++;
+		}
+		return digits;
+	}
+
+	/**
+	 * Transforms flip bits into a selection mask in place: bit {@code i} of
+	 * the result is the parity of the flip bits {@code 0..i} (inclusive),
+	 * inverted if {@code initial} is {@code true}.
+	 * 
+	 * @param flips
+	 *            the flip bits
+	 * @param initial
+	 *            the initial selection
+	 */
+	public static void prefixParity(long[] flips, boolean initial) {
+		long carry = initial ? -1L : 0L;
+		for (int w = 0; w < flips.length; w++) {
+			long x = flips[w];
+			x ^= x << 1;
+			x ^= x << 2;
+			x ^= x << 4;
+			x ^= x << 8;
+			x ^= x << 16;
+			x ^= x << 32;
+			x ^= carry;
+			flips[w] = x;
+			carry = x >> 63;
+		}
+	}
+
+	/**
+	 * Blends two packed lists with a mask: the first offspring takes the bits
+	 * of {@code a} where the mask is set and the bits of {@code b} otherwise,
+	 * the second offspring vice versa. The offspring words may be the same
+	 * arrays as the parent words.
+	 * 
+	 * @param a
+	 *            the first packed list
+	 * @param b
+	 *            the second packed list
+	 * @param mask
+	 *            the mask
+	 * @param o1
+	 *            the first offspring words
+	 * @param o2
+	 *            the second offspring words
+	 */
+	public static void blend(long[] a, long[] b, long[] mask, long[] o1, long[] o2) {
+		for (int w = 0; w < mask.length; w++) {
+			long m = mask[w];
+			long x = a[w];
+			long y = b[w];
+			o1[w] = (x & m) | (y & ~m);
+			o2[w] = (y & m) | (x & ~m);
+		}
+	}
+}
@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators;
+
+import java.util.List;
+
+/**
+ * The {@link PermutationSequence} is a working representation of a
+ * permutation as an implicit treap, i.e., a randomized balanced tree that is
+ * ordered by the positions of the elements. Moving an element and reverting a
+ * segment both require {@code O(log n)} time instead of the {@code O(n)} time
+ * of an array based list. Building the sequence and writing it back are
+ * {@code O(n)} such that it pays off only for many moves on large
+ * permutations (see {@link #isBeneficial(int, double)}).
+ * 
+ * @author diewald
+ * 
+ */
+public class PermutationSequence {
+
+	/**
+	 * The minimal size of a permutation for which the sequence is used.
+	 */
+	public static final int MIN_SIZE = 4096;
+
+	/**
+	 * The minimal number of moves for which the sequence is used.
+	 */
+	public static final int MIN_MOVES = 64;
+
+	protected final Object[] values;
+
+	protected final int[] left;
+
+	protected final int[] right;
+
+	protected final int[] count;
+
+	protected final int[] priority;
+
+	protected final boolean[] reverted;
+
+	protected int root;
+
+	private int splitLeft;
+
+	private int splitRight;
+
+	private int position;
+
+	/**
+	 * Constructs a {@link PermutationSequence} with the elements of the given
+	 * list.
+	 * 
+	 * @param list
+	 *            the permutation
+	 */
+	public PermutationSequence(List<?> list) {
+		int n = list.size();
+		values = list.toArray();
+		left = new int[n];
+		right = new int[n];
+		count = new int[n];
+		priority = new int[n];
+		reverted = new boolean[n];
+
+		// Builds the tree in O(n) along its right spine.
+		int[] spine = new int[n];
+		int top = 0;
+		for (int i = 0; i < n; i++) {
+			priority[i] = mix(i);
+			right[i] = -1;
+
+			int last = -1;
+			while (top > 0 && priority[spine[top - 1]] < priority[i]) {
+				last = spine[--top];
+			}
+			left[i] = last;
+			if (top > 0) {
+				right[spine[top - 1]] = i;
+			}
+			spine[top++] = i;
+		}
+		root = n > 0 ? spine[0] : -1;
+		count(root);
+	}
+
+	/**
+	 * Returns {@code true} if the {@link PermutationSequence} is expected to
+	 * be faster than modifying an array based list directly.
+	 * 
+	 * @param size
+	 *            the size of the permutation
+	 * @param moves
+	 *            the (expected) number of moves
+	 * @return {@code true} if the sequence should be used
+	 */
+	public static boolean isBeneficial(int size, double moves) {
+		return size >= MIN_SIZE && moves >= MIN_MOVES;
+	}
+
+	/**
+	 * Returns the number of elements.
+	 * 
+	 * @return the number of elements
+	 */
+	public int size() {
+		return size(root);
+	}
+
+	/**
+	 * Returns the element at the given position.
+	 * 
+	 * @param index
+	 *            the position
+	 * @return the element
+	 */
+	public Object get(int index) {
+		int t = root;
+		while (true) {
+			push(t);
+			int l = size(left[t]);
+			if (index < l) {
+				t = left[t];
+			} else if (index == l) {
+				return values[t];
+			} else {
+				index -= l + 1;
+				t = right[t];
+			}
+		}
+	}
+
+	/**
+	 * Removes the element at position {@code from} and inserts it at position
+	 * {@code to} of the remaining sequence, i.e., as
+	 * {@code list.add(to, list.remove(from))}.
+	 * 
+	 * @param from
+	 *            the position of the element
+	 * @param to
+	 *            the new position of the element
+	 */
+	public void move(int from, int to) {
+		split(root, from);
+		int a = splitLeft;
+		split(splitRight, 1);
+		int element = splitLeft;
+		int rest = merge(a, splitRight);
+
+		split(rest, to);
+		int b = splitRight;
+		root = merge(merge(splitLeft, element), b);
+	}
+
+	/**
+	 * Reverts the segment from position {@code from} (inclusive) to position
+	 * {@code to} (exclusive).
+	 * 
+	 * @param from
+	 *            the first position of the segment
+	 * @param to
+	 *            the position behind the segment
+	 */
+	public void revert(int from, int to) {
+		split(root, from);
+		int a = splitLeft;
+		split(splitRight, to - from);
+		int b = splitRight;
+		if (splitLeft >= 0) {
+			reverted[splitLeft] ^= true;
+		}
+		root = merge(merge(a, splitLeft), b);
+	}
+
+	/**
+	 * Writes the sequence back to the given list of the same size.
+	 * 
+	 * @param list
+	 *            the list
+	 */
+	public void copyTo(List<Object> list) {
+		position = 0;
+		copyTo(root, list);
+	}
+
+	private void copyTo(int t, List<Object> list) {
+		while (t >= 0) {
+			push(t);
+			copyTo(left[t], list);
+			list.set(position++, values[t]);
+			t = right[t];
+		}
+	}
+
+	/**
+	 * Splits the tree {@code t} into the first {@code k} elements
+	 * ({@code splitLeft}) and the remaining elements ({@code splitRight}).
+	 */
+	private void split(int t, int k) {
+		if (t < 0) {
+			splitLeft = -1;
+			splitRight = -1;
+			return;
+		}
+		push(t);
+		int l = size(left[t]);
+		if (l < k) {
+			split(right[t], k - l - 1);
+			right[t] = splitLeft;
+			update(t);
+			splitLeft = t;
+		} else {
+			split(left[t], k);
+			left[t] = splitRight;
+			update(t);
+			splitRight = t;
+		}
+	}
+
+	/**
+	 * Concatenates the trees {@code a} and {@code b}.
+	 */
+	private int merge(int a, int b) {
+		if (a < 0) {
+			return b;
+		} else if (b < 0) {
+			return a;
+		} else if (priority[a] > priority[b]) {
+			push(a);
+			right[a] = merge(right[a], b);
+			update(a);
+			return a;
+		} else {
+			push(b);
+			left[b] = merge(a, left[b]);
+			update(b);
+			return b;
+		}
+	}
+
+	/**
+	 * Propagates a pending reversion of the node {@code t} to its children.
+	 */
+	private void push(int t) {
+		if (reverted[t]) {
+			int l = left[t];
+			left[t] = right[t];
+			right[t] = l;
+			if (left[t] >= 0) {
+				reverted[left[t]] ^= true;
+			}
+			if (right[t] >= 0) {
+				reverted[right[t]] ^= true;
+			}
+			reverted[t] = false;
+		}
+	}
+
+	private void update(int t) {
+		count[t] = size(left[t]) + size(right[t]) + 1;
+	}
+
+	private int size(int t) {
+		return t < 0 ? 0 : count[t];
+	}
+
+	private int count(int t) {
+		if (t < 0) {
+			return 0;
+		}
+		count[t] = count(left[t]) + count(right[t]) + 1;
+		return count[t];
+	}
+
+	/**
+	 * Returns a pseudo-random priority for a node such that the tree is
+	 * balanced in expectation without consuming random numbers of the
+	 * operators.
+	 */
+	private static int mix(int i) {
+		int h = i * 0x9E3779B9;
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		h *= 0xC2B2AE35;
+		h ^= h >>> 16;
+		return h;
+	}
+
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators;
+
+import java.util.Random;
+
+/**
+ * The {@link SkipSampling} provides helper methods for operators that select
+ * each position of a genotype independently with a given rate. Instead of
+ * drawing a random number per position, the gap to the next selected position
+ * is drawn from the geometric distribution. Thus, the number of random numbers
+ * scales with the number of selected positions instead of the size of the
+ * genotype while the selected positions have exactly the same distribution.
+ * 
+ * @author diewald
+ * 
+ */
+public class SkipSampling {
+
+	private SkipSampling() {
+	}
+
+	/**
+	 * Returns the number of positions that are skipped before the next
+	 * selected position, i.e., a geometrically distributed value with the
+	 * success probability {@code rate}.
+	 * 
+	 * @param random
+	 *            the random number generator
+	 * @param rate
+	 *            the probability that a position is selected
+	 * @return the number of skipped positions or {@link Integer#MAX_VALUE} if
+	 *         no position is selected
+	 */
+	public static int skip(Random random, double rate) {
+		if (rate >= 1) {
+			return 0;
+		} else if (!(rate > 0)) {
+			return Integer.MAX_VALUE;
+		}
+
+		// 1 - nextDouble() is in (0,1] such that the logarithm is finite.
+		double u = 1.0 - random.nextDouble();
+		double skip = Math.floor(Math.log(u) / Math.log1p(-rate));
+		return skip < Integer.MAX_VALUE ? (int) skip : Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Returns the next selected position that is equal to or greater than
+	 * {@code from}.
+	 * 
+	 * @param random
+	 *            the random number generator
+	 * @param rate
+	 *            the probability that a position is selected
+	 * @param from
+	 *            the first candidate position
+	 * @return the next selected position or {@link Integer#MAX_VALUE} if no
+	 *         further position is selected
+	 */
+	public static int next(Random random, double rate, int from) {
+		long next = (long) from + skip(random, rate);
+		return next < Integer.MAX_VALUE ? (int) next : Integer.MAX_VALUE;
+	}
+}
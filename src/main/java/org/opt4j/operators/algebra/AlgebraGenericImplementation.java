@@ -25,6 +25,7 @@ package org.opt4j.operators.algebra;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map.Entry;
 
 import org.opt4j.core.Genotype;
 import org.opt4j.core.genotype.CompositeGenotype;
@@ -62,11 +63,32 @@ public class AlgebraGenericImplementation extends AbstractGenericOperator<Algebr
 	 */
 	@Override
 	public Genotype algebra(Term term, Genotype... genotypes) {
-		Algebra<Genotype> algebra = getOperator(genotypes[0]);
-		if (algebra == null) {
+		return algebra(getDispatch(genotypes[0]), term, genotypes);
+	}
+
+	/**
+	 * Performs the algebra operation with the given {@link OperatorDispatch}.
+	 * 
+	 * @param dispatch
+	 *            the dispatch of the first genotype or {@code null} for a
+	 *            {@link CompositeGenotype}
+	 * @param term
+	 *            the term
+	 * @param genotypes
+	 *            the genotypes
+	 * @return the resulting genotype
+	 */
+	protected Genotype algebra(OperatorDispatch<Algebra<Genotype>> dispatch, Term term, Genotype... genotypes) {
+		if (dispatch == null) {
 			return algebraComposite(term, genotypes);
 		} else {
-			return algebra.algebra(term, genotypes);
+			Algebra<Genotype> algebra = getOperator(dispatch, genotypes[0]);
+			Timer timer = startTimer();
+			Genotype offspring = algebra.algebra(term, genotypes);
+			if (timer != null) {
+				timer.stop(genotypes[0], algebra);
+			}
+			return offspring;
 		}
 	}
 
@@ -78,18 +100,28 @@ public class AlgebraGenericImplementation extends AbstractGenericOperator<Algebr
 		}
 
 		CompositeGenotype<Object, Genotype> offspring = composites.get(0).newInstance();
+		CompositePlan<Algebra<Genotype>> plan = getPlan(composites.get(0));
+		CompositeCursor[] children = new CompositeCursor[n];
+		for (int i = 1; i < n; i++) {
+			if (composites.get(i) != null) {
+				children[i] = new CompositeCursor(composites.get(i));
+			}
+		}
 
-		for (Object key : composites.get(0).keySet()) {
+		int index = 0;
+		for (Entry<?, ? extends Genotype> entry : composites.get(0)) {
+			Object key = entry.getKey();
 			Genotype[] g = new Genotype[n];
-			for (int i = 0; i < n; i++) {
-				if (composites.get(i) == null) {
+			g[0] = entry.getValue();
+			for (int i = 1; i < n; i++) {
+				if (children[i] == null) {
 					g[i] = null;
 				} else {
-					Genotype genotype = composites.get(i).get(key);
+					Genotype genotype = children[i].next(key);
 					g[i] = genotype;
 				}
 			}
-			Genotype value = algebra(term, g);
+			Genotype value = algebra(getDispatch(plan, index++, g[0]), term, g);
 			offspring.put(key, value);
 		}
 
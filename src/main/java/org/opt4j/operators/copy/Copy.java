@@ -22,6 +22,9 @@
  
 package org.opt4j.operators.copy;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.opt4j.core.Genotype;
 import org.opt4j.core.optimizer.Operator;
 import org.opt4j.operators.normalize.Normalize;
@@ -49,6 +52,22 @@ public interface Copy<G extends Genotype> extends Operator<G> {
 	 */
 	public G copy(G genotype);
 
+	/**
+	 * Copies each of the given {@link Genotype}s. The copies are returned in
+	 * the order of the originals.
+	 * 
+	 * @param genotypes
+	 *            the genotypes to copy
+	 * @return the copies of the genotypes
+	 */
+	default List<G> copyAll(List<? extends G> genotypes) {
+		List<G> copies = new ArrayList<G>(genotypes.size());
+		for (G genotype : genotypes) {
+			copies.add(copy(genotype));
+		}
+		return copies;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.opt4j.core.optimizer.Operator#getOperatorType()
 	 */
@@ -23,6 +23,10 @@
 
 package org.opt4j.operators.copy;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
 import org.opt4j.core.Genotype;
 import org.opt4j.core.genotype.CompositeGenotype;
 import org.opt4j.operators.AbstractGenericOperator;
@@ -54,22 +58,67 @@ public class CopyGenericImplementation extends AbstractGenericOperator<Copy<Geno
 	 */
 	@Override
 	public Genotype copy(Genotype genotype) {
-		Copy<Genotype> copy = getOperator(genotype);
-		if (copy == null) {
+		return copy(getDispatch(genotype), genotype);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.operators.copy.Copy#copyAll(java.util.List)
+	 */
+	@Override
+	public List<Genotype> copyAll(List<? extends Genotype> genotypes) {
+		List<Genotype> copies = new ArrayList<Genotype>(genotypes.size());
+
+		// Genotypes of one batch usually share their class: resolve the dispatch once.
+		Class<?> clazz = null;
+		OperatorDispatch<Copy<Genotype>> dispatch = null;
+
+		for (Genotype genotype : genotypes) {
+			if (genotype.getClass() != clazz) {
+				clazz = genotype.getClass();
+				dispatch = getDispatch(genotype);
+			}
+
+			copies.add(copy(dispatch, genotype));
+		}
+		return copies;
+	}
+
+	/**
+	 * Performs the copy with the given {@link OperatorDispatch}.
+	 * 
+	 * @param dispatch
+	 *            the dispatch of the genotype or {@code null} for a
+	 *            {@link CompositeGenotype}
+	 * @param genotype
+	 *            the genotype to be copied
+	 * @return the copy
+	 */
+	protected Genotype copy(OperatorDispatch<Copy<Genotype>> dispatch, Genotype genotype) {
+		if (dispatch == null) {
 			return copyComposite((CompositeGenotype<?, ?>) genotype);
 		} else {
-			return copy.copy(genotype);
+			Copy<Genotype> copy = getOperator(dispatch, genotype);
+			Timer timer = startTimer();
+			Genotype offspring = copy.copy(genotype);
+			if (timer != null) {
+				timer.stop(genotype, copy);
+			}
+			return offspring;
 		}
 	}
 
 	protected CompositeGenotype<?, ?> copyComposite(CompositeGenotype<?, ?> genotype) {
 		CompositeGenotype<Object, Genotype> offspring = genotype.newInstance();
 		offspring.clear();
+		CompositePlan<Copy<Genotype>> plan = getPlan(genotype);
 
-		for (final Object key : genotype.keySet()) {
-			final Genotype g = genotype.get(key);
-			Genotype go = copy(g);
-			offspring.put(key, go);
+		int i = 0;
+		for (Entry<?, ? extends Genotype> entry : genotype) {
+			final Genotype g = entry.getValue();
+			Genotype go = copy(getDispatch(plan, i++, g), g);
+			offspring.put(entry.getKey(), go);
 		}
 		return offspring;
 	}
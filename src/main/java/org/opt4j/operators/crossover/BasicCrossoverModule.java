@@ -61,10 +61,14 @@ public class BasicCrossoverModule extends CrossoverModule {
 	@Required(property = "doubleType", elements = { "BLX", "UNFAIR_AVERAGE" })
 	protected double alpha = 0.5;
 
-	@Required(property = "doubleType", elements = { "SBX" })
+	@Required(property = "doubleType", elements = { "SBX", "SBX_BOUNDED" })
 	@Constant(value = "nu", namespace = CrossoverDoubleSBX.class)
 	protected double nu = 15;
 
+	@Info("Process the genes in vectorized loops over buffered random numbers.")
+	@Constant(value = "vectorized", namespace = CrossoverDouble.class)
+	protected boolean vectorized = false;
+
 	@Info("The type of the crossover operator for the Permutation genotype.")
 	protected PermutationType permutationType = PermutationType.ONEPOINT;
 
@@ -118,7 +122,11 @@ public class BasicCrossoverModule extends CrossoverModule {
 		/**
 		 * Use the {@link CrossoverDoubleUnfairAverage}.
 		 */
-		UNFAIR_AVERAGE;
+		UNFAIR_AVERAGE,
+		/**
+		 * Use the {@link CrossoverDoubleSBXBounded}.
+		 */
+		SBX_BOUNDED;
 	}
 
 	/**
@@ -135,7 +143,23 @@ public class BasicCrossoverModule extends CrossoverModule {
 		/**
 		 * Use the {@link CrossoverPermutationBucket}.
 		 */
-		BUCKET;
+		BUCKET,
+		/**
+		 * Use the {@link CrossoverPermutationPMX}.
+		 */
+		PMX,
+		/**
+		 * Use the {@link CrossoverPermutationOrder}.
+		 */
+		ORDER,
+		/**
+		 * Use the {@link CrossoverPermutationCycle}.
+		 */
+		CYCLE,
+		/**
+		 * Use the {@link CrossoverPermutationEdgeRecombination}.
+		 */
+		EDGE_RECOMBINATION;
 	}
 
 	/**
@@ -301,7 +325,8 @@ public class BasicCrossoverModule extends CrossoverModule {
 	}
 
 	/**
-	 * Returns the nu value of the {@link CrossoverDoubleSBX}.
+	 * Returns the nu value of the {@link CrossoverDoubleSBX} and the
+	 * {@link CrossoverDoubleSBXBounded}.
 	 * 
 	 * @return the nu value
 	 */
@@ -310,7 +335,8 @@ public class BasicCrossoverModule extends CrossoverModule {
 	}
 
 	/**
-	 * Sets the nu value of the {@link CrossoverDoubleSBX}.
+	 * Sets the nu value of the {@link CrossoverDoubleSBX} and the
+	 * {@link CrossoverDoubleSBXBounded}.
 	 * 
 	 * @param nu
 	 *            the nu value
@@ -319,6 +345,27 @@ public class BasicCrossoverModule extends CrossoverModule {
 		this.nu = nu;
 	}
 
+	/**
+	 * Returns {@code true} if the {@link CrossoverDouble} operators use the
+	 * vectorized processing.
+	 * 
+	 * @return {@code true} if the vectorized processing is used
+	 */
+	public boolean isVectorized() {
+		return vectorized;
+	}
+
+	/**
+	 * Sets whether the {@link CrossoverDouble} operators use the vectorized
+	 * processing.
+	 * 
+	 * @param vectorized
+	 *            {@code true} if the vectorized processing is used
+	 */
+	public void setVectorized(boolean vectorized) {
+		this.vectorized = vectorized;
+	}
+
 	/**
 	 * Return the {@link Operator} for {@link DoubleGenotype}.
 	 * 
@@ -410,6 +457,9 @@ public class BasicCrossoverModule extends CrossoverModule {
 		case UNFAIR_AVERAGE:
 			bind(CrossoverDouble.class).to(CrossoverDoubleUnfairAverage.class).in(SINGLETON);
 
+			break;
+		case SBX_BOUNDED:
+			bind(CrossoverDouble.class).to(CrossoverDoubleSBXBounded.class).in(SINGLETON);
 			break;
 		default: // SBX
 			bind(CrossoverDouble.class).to(CrossoverDoubleSBX.class).in(SINGLETON);
@@ -420,6 +470,18 @@ public class BasicCrossoverModule extends CrossoverModule {
 		case BUCKET:
 			bind(CrossoverPermutation.class).to(CrossoverPermutationBucket.class).in(SINGLETON);
 			break;
+		case PMX:
+			bind(CrossoverPermutation.class).to(CrossoverPermutationPMX.class).in(SINGLETON);
+			break;
+		case ORDER:
+			bind(CrossoverPermutation.class).to(CrossoverPermutationOrder.class).in(SINGLETON);
+			break;
+		case CYCLE:
+			bind(CrossoverPermutation.class).to(CrossoverPermutationCycle.class).in(SINGLETON);
+			break;
+		case EDGE_RECOMBINATION:
+			bind(CrossoverPermutation.class).to(CrossoverPermutationEdgeRecombination.class).in(SINGLETON);
+			break;
 		default: // ONEPOINT
 			bind(CrossoverPermutation.class).to(CrossoverPermutationOnePoint.class).in(SINGLETON);
 			break;
@@ -23,6 +23,9 @@
 
 package org.opt4j.operators.crossover;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.opt4j.core.Genotype;
 import org.opt4j.core.optimizer.Operator;
 import org.opt4j.operators.normalize.Normalize;
@@ -51,6 +54,68 @@ public interface Crossover<G extends Genotype> extends Operator<G> {
 	 * @return The resulting pair of offspring genotypes
 	 */
 	public Pair<G> crossover(G parent1, G parent2);
+
+	/**
+	 * Performs a crossover for two {@link Genotype} parents like
+	 * {@link #crossover(Genotype, Genotype)}, but the operator may return a
+	 * {@link LazyPair} that creates the second offspring only if it is
+	 * requested. This saves the second offspring for callers that only use the
+	 * first one. The parents must not be modified before the second offspring
+	 * is requested.
+	 * <p>
+	 * Operators that do not support lazy offspring return both offspring (this
+	 * is the default).
+	 * 
+	 * @param parent1
+	 *            The first parent genotype for the crossover
+	 * @param parent2
+	 *            The second parents genotype for the crossover
+	 * @return The resulting pair of offspring genotypes
+	 */
+	default Pair<G> crossoverLazy(G parent1, G parent2) {
+		return crossover(parent1, parent2);
+	}
+
+	/**
+	 * Performs a crossover for two {@link Genotype} parents into the given
+	 * offspring genotypes. The offspring are cleared and refilled such that
+	 * genotypes of discarded individuals can be reused instead of allocating
+	 * new ones. The offspring must not be the parents themselves.
+	 * <p>
+	 * Operators that do not support the reuse of genotypes return new
+	 * offspring (this is the default). Thus, the returned pair is the result of
+	 * the crossover.
+	 * 
+	 * @param parent1
+	 *            The first parent genotype for the crossover
+	 * @param parent2
+	 *            The second parents genotype for the crossover
+	 * @param offspring1
+	 *            The genotype that is reused for the first offspring
+	 * @param offspring2
+	 *            The genotype that is reused for the second offspring
+	 * @return The resulting pair of offspring genotypes
+	 */
+	default Pair<G> crossover(G parent1, G parent2, G offspring1, G offspring2) {
+		return crossover(parent1, parent2);
+	}
+
+	/**
+	 * Performs a crossover for each of the given pairs of {@link Genotype}
+	 * parents. The resulting pairs of offspring are returned in the order of
+	 * the parents.
+	 * 
+	 * @param parents
+	 *            the pairs of parent genotypes
+	 * @return the resulting pairs of offspring genotypes
+	 */
+	default List<Pair<G>> crossoverAll(List<Pair<G>> parents) {
+		List<Pair<G>> offspring = new ArrayList<Pair<G>>(parents.size());
+		for (Pair<G> pair : parents) {
+			offspring.add(crossover(pair.getFirst(), pair.getSecond()));
+		}
+		return offspring;
+	}
 	
 	/* (non-Javadoc)
 	 * @see org.opt4j.core.optimizer.Operator#getOperatorType()
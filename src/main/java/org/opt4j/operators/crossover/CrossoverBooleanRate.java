@@ -26,12 +26,15 @@ package org.opt4j.operators.crossover;
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.BooleanGenotype;
 import org.opt4j.core.start.Constant;
+import org.opt4j.operators.PackedBooleans;
+import org.opt4j.operators.SkipSampling;
 
 import com.google.inject.Inject;
 
 /**
  * Crossover for the {@link BooleanGenotype}. A point is determined as a
- * crossover point by a probability.
+ * crossover point by a probability. The crossover is performed on the values
+ * packed into 64-bit words (see {@link PackedBooleans}).
  * 
  * @author lukasiewycz
  * 
@@ -51,4 +54,105 @@ public class CrossoverBooleanRate extends CrossoverListRate<BooleanGenotype> imp
 			Rand random) {
 		super(rate, random);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverListRate#crossover(org.opt4j.core
+	 * .genotype.ListGenotype, org.opt4j.core.genotype.ListGenotype)
+	 */
+	@Override
+	public Pair<BooleanGenotype> crossover(BooleanGenotype p1, BooleanGenotype p2) {
+		return crossover(p1, p2, mask(p1.size()), p1.newInstance(), p2.newInstance());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverListRate#crossoverLazy(org.opt4j.core
+	 * .genotype.ListGenotype, org.opt4j.core.genotype.ListGenotype)
+	 */
+	@Override
+	public Pair<BooleanGenotype> crossoverLazy(BooleanGenotype p1, BooleanGenotype p2) {
+		return crossover(p1, p2, mask(p1.size()), null, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverListRate#crossover(org.opt4j.core
+	 * .genotype.ListGenotype, org.opt4j.core.genotype.ListGenotype,
+	 * org.opt4j.core.genotype.ListGenotype,
+	 * org.opt4j.core.genotype.ListGenotype)
+	 */
+	@Override
+	public Pair<BooleanGenotype> crossover(BooleanGenotype p1, BooleanGenotype p2, BooleanGenotype o1,
+			BooleanGenotype o2) {
+		return crossover(p1, p2, mask(p1.size()), o1, o2);
+	}
+
+	/**
+	 * Returns the selection mask with the prefix parity of the crossover
+	 * points.
+	 * 
+	 * @param size
+	 *            the size of the genotype
+	 * @return the selection mask
+	 */
+	protected long[] mask(int size) {
+		boolean select = random.nextBoolean();
+
+		long[] mask = new long[PackedBooleans.words(size)];
+		for (int i = SkipSampling.next(random, rate, 0); i < size; i = SkipSampling.next(random, rate, i + 1)) {
+			mask[i >>> 6] |= 1L << i;
+		}
+		PackedBooleans.prefixParity(mask, select);
+		return mask;
+	}
+
+	/**
+	 * Performs the crossover with the given selection mask.
+	 * 
+	 * @param p1
+	 *            the first parent
+	 * @param p2
+	 *            the second parent
+	 * @param mask
+	 *            the selection mask (set bits are taken from the first parent
+	 *            for the first offspring)
+	 * @param o1
+	 *            the genotype that is refilled with the first offspring or
+	 *            {@code null} for lazy offspring
+	 * @param o2
+	 *            the genotype that is refilled with the second offspring or
+	 *            {@code null} for lazy offspring
+	 * @return the refilled offspring or, if an offspring genotype is
+	 *         {@code null}, a {@link LazyPair} with new offspring
+	 */
+	static Pair<BooleanGenotype> crossover(final BooleanGenotype p1, final BooleanGenotype p2, long[] mask,
+			BooleanGenotype o1, BooleanGenotype o2) {
+		final int size = p1.size();
+		final long[] a = PackedBooleans.pack(p1);
+		final long[] b = PackedBooleans.pack(p2);
+		PackedBooleans.blend(a, b, mask, a, b);
+
+		if (o1 == null || o2 == null) {
+			BooleanGenotype first = p1.newInstance();
+			PackedBooleans.unpack(a, size, first);
+			return new LazyPair<BooleanGenotype>(first, () -> {
+				BooleanGenotype second = p2.newInstance();
+				PackedBooleans.unpack(b, size, second);
+				return second;
+			});
+		}
+
+		o1.clear();
+		o2.clear();
+		PackedBooleans.unpack(a, size, o1);
+		PackedBooleans.unpack(b, size, o2);
+		return new Pair<BooleanGenotype>(o1, o2);
+	}
 }
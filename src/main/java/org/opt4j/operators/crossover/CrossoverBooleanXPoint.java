@@ -26,12 +26,14 @@ package org.opt4j.operators.crossover;
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.BooleanGenotype;
 import org.opt4j.core.start.Constant;
+import org.opt4j.operators.PackedBooleans;
 
 import com.google.inject.Inject;
 
 /**
  * Crossover for the {@link BooleanGenotype}. The crossover is done on {@code x}
- * points.
+ * points. The crossover is performed on the values packed into 64-bit words
+ * (see {@link PackedBooleans}).
  * 
  * @author lukasiewycz
  * 
@@ -51,4 +53,70 @@ public class CrossoverBooleanXPoint extends CrossoverListXPoint<BooleanGenotype>
 		super(x, random);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverListXPoint#crossover(org.opt4j.core
+	 * .genotype.ListGenotype, org.opt4j.core.genotype.ListGenotype)
+	 */
+	@Override
+	public Pair<BooleanGenotype> crossover(BooleanGenotype p1, BooleanGenotype p2) {
+		return CrossoverBooleanRate.crossover(p1, p2, mask(p1.size()), p1.newInstance(), p2.newInstance());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverListXPoint#crossoverLazy(org.opt4j.core
+	 * .genotype.ListGenotype, org.opt4j.core.genotype.ListGenotype)
+	 */
+	@Override
+	public Pair<BooleanGenotype> crossoverLazy(BooleanGenotype p1, BooleanGenotype p2) {
+		return CrossoverBooleanRate.crossover(p1, p2, mask(p1.size()), null, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverListXPoint#crossover(org.opt4j.core
+	 * .genotype.ListGenotype, org.opt4j.core.genotype.ListGenotype,
+	 * org.opt4j.core.genotype.ListGenotype,
+	 * org.opt4j.core.genotype.ListGenotype)
+	 */
+	@Override
+	public Pair<BooleanGenotype> crossover(BooleanGenotype p1, BooleanGenotype p2, BooleanGenotype o1,
+			BooleanGenotype o2) {
+		return CrossoverBooleanRate.crossover(p1, p2, mask(p1.size()), o1, o2);
+	}
+
+	/**
+	 * Returns the selection mask with the prefix parity of the crossover
+	 * points.
+	 * 
+	 * @param size
+	 *            the size of the genotype
+	 * @return the selection mask
+	 */
+	protected long[] mask(int size) {
+
+		if (x <= 0 || x > size - 1) {
+			throw new RuntimeException(this.getClass() + " : x is " + x + " for binary vector size " + size);
+		}
+
+		int[] points = points(size);
+		boolean select = random.nextBoolean();
+
+		// Flip at the start and at each crossover point.
+		long[] mask = new long[PackedBooleans.words(size)];
+		mask[0] = 1L;
+		for (int point : points) {
+			mask[point >>> 6] |= 1L << point;
+		}
+		PackedBooleans.prefixParity(mask, select);
+		return mask;
+	}
+
 }
@@ -23,11 +23,13 @@
 
 package org.opt4j.operators.crossover;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.DoubleGenotype;
+import org.opt4j.core.start.Constant;
 import org.opt4j.operators.normalize.NormalizeDouble;
 
 import com.google.inject.ImplementedBy;
@@ -46,6 +48,8 @@ public abstract class CrossoverDouble implements Crossover<DoubleGenotype> {
 
 	protected final NormalizeDouble normalize;
 
+	protected boolean vectorized = false;
+
 	/**
 	 * Constructs a new crossover for the {@link DoubleGenotype}.
 	 * 
@@ -60,6 +64,63 @@ public abstract class CrossoverDouble implements Crossover<DoubleGenotype> {
 		this.random = random;
 	}
 
+	/**
+	 * Enables the vectorized processing: the random numbers for all genes are
+	 * generated into a buffer first and the arithmetic is performed in
+	 * separate loops over primitive arrays that the JIT compiler can unroll
+	 * and vectorize. The random numbers are drawn in the same order, i.e., the
+	 * results are identical to the scalar processing.
+	 * 
+	 * @param vectorized
+	 *            {@code true} if the vectorized processing is used
+	 */
+	@Inject(optional = true)
+	public void setVectorized(@Constant(value = "vectorized", namespace = CrossoverDouble.class) boolean vectorized) {
+		this.vectorized = vectorized;
+	}
+
+	/**
+	 * Returns {@code true} if the vectorized processing is used.
+	 * 
+	 * @return {@code true} if the vectorized processing is used
+	 */
+	public boolean isVectorized() {
+		return vectorized;
+	}
+
+	/**
+	 * Copies the values of a list into a new array.
+	 * 
+	 * @param list
+	 *            the list
+	 * @return the array of the values
+	 */
+	protected static double[] toArray(List<Double> list) {
+		int size = list.size();
+		double[] values = new double[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = list.get(i);
+		}
+		return values;
+	}
+
+	/**
+	 * Adds the values of an array to a list.
+	 * 
+	 * @param values
+	 *            the values
+	 * @param list
+	 *            the list
+	 */
+	protected static void addAll(double[] values, List<Double> list) {
+		if (list instanceof ArrayList) {
+			((ArrayList<Double>) list).ensureCapacity(list.size() + values.length);
+		}
+		for (double value : values) {
+			list.add(value);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -71,8 +132,24 @@ public abstract class CrossoverDouble implements Crossover<DoubleGenotype> {
 	public Pair<DoubleGenotype> crossover(DoubleGenotype p1, DoubleGenotype p2) {
 		DoubleGenotype o1 = p1.newInstance();
 		DoubleGenotype o2 = p2.newInstance();
+		return crossover(p1, p2, o1, o2);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.Crossover#crossover(org.opt4j.core.Genotype,
+	 * org.opt4j.core.Genotype, org.opt4j.core.Genotype,
+	 * org.opt4j.core.Genotype)
+	 */
+	@Override
+	public Pair<DoubleGenotype> crossover(DoubleGenotype p1, DoubleGenotype p2, DoubleGenotype o1,
+			DoubleGenotype o2) {
+		o1.clear();
+		o2.clear();
 
-		crossover(p1, p2, o1, o2);
+		crossover((List<Double>) p1, (List<Double>) p2, (List<Double>) o1, (List<Double>) o2);
 
 		normalize.normalize(o1);
 		normalize.normalize(o2);
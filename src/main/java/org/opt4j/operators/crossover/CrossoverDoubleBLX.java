@@ -81,13 +81,48 @@ public class CrossoverDoubleBLX extends CrossoverDoubleElementwise {
 	 */
 	@Override
 	public Pair<Double> crossover(double x, double y) {
+		return crossoverKernel(x, y);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverDoubleElementwise#crossover(double
+	 * , double, double[], double[], int)
+	 */
+	@Override
+	public void crossover(double x, double y, double[] o1, double[] o2, int i) {
 		double lo = Math.min(x, y);
 		double hi = Math.max(x, y);
 
-		double o1 = next(lo, hi);
-		double o2 = next(lo, hi);
+		o1[i] = next(lo, hi);
+		o2[i] = next(lo, hi);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverDoubleElementwise#crossover(double
+	 * [], double[], double[], double[])
+	 */
+	@Override
+	public void crossover(double[] x, double[] y, double[] o1, double[] o2) {
+		int n = x.length;
+		// The random numbers in the order of the scalar processing.
+		for (int i = 0; i < n; i++) {
+			o1[i] = random.nextDouble();
+			o2[i] = random.nextDouble();
+		}
 
-		return new Pair<Double>(o1, o2);
+		double scale = 1 + 2 * alpha;
+		for (int i = 0; i < n; i++) {
+			double lo = Math.min(x[i], y[i]);
+			double d = Math.max(x[i], y[i]) - lo;
+			o1[i] = lo + (scale * o1[i] - alpha) * d;
+			o2[i] = lo + (scale * o2[i] - alpha) * d;
+		}
 	}
 
 	/**
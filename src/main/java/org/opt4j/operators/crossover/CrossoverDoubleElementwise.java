@@ -26,18 +26,36 @@ package org.opt4j.operators.crossover;
 import java.util.List;
 
 import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.genotype.DoubleGenotype;
+import org.opt4j.operators.Overrides;
 import org.opt4j.operators.normalize.NormalizeDouble;
 
 /**
  * The {@link CrossoverDoubleElementwise} can be used to derive
  * {@link CrossoverDouble} classOperators that can work element-wise on the
  * double vectors.
+ * <p>
+ * Subclasses should override the primitive
+ * {@link #crossover(double, double, double[], double[], int)} kernel which
+ * writes the offspring values directly into arrays such that no objects are
+ * created per gene. For the vectorized processing, subclasses may override
+ * the bulk {@link #crossover(double[], double[], double[], double[])} kernel.
+ * <p>
+ * All entry points, i.e., {@link #crossover(DoubleGenotype, DoubleGenotype)},
+ * {@link #crossoverLazy(DoubleGenotype, DoubleGenotype)}, and the reuse
+ * overload, perform the crossover by means of the list hook
+ * {@link #crossover(List, List, List, List)}. The first two write the
+ * primitive kernel results directly into the offspring only if the list hook
+ * is not overridden by the subclass.
  * 
  * @author glass
  * 
  */
 public abstract class CrossoverDoubleElementwise extends CrossoverDouble {
 
+	protected static final ClassValue<Boolean> LIST_OVERRIDDEN = Overrides.of(CrossoverDoubleElementwise.class,
+			"crossover", List.class, List.class, List.class, List.class);
+
 	/**
 	 * Constructs a new {@link CrossoverDoubleElementwise}.
 	 * 
@@ -50,6 +68,66 @@ public abstract class CrossoverDoubleElementwise extends CrossoverDouble {
 		super(normalize, random);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverDouble#crossover(org.opt4j.core.
+	 * genotype.DoubleGenotype, org.opt4j.core.genotype.DoubleGenotype)
+	 */
+	@Override
+	public Pair<DoubleGenotype> crossover(DoubleGenotype p1, DoubleGenotype p2) {
+		if (LIST_OVERRIDDEN.get(getClass())) {
+			return super.crossover(p1, p2);
+		}
+
+		int size = p1.size();
+		double[] v1 = new double[size];
+		double[] v2 = new double[size];
+
+		crossover(p1, p2, v1, v2);
+
+		DoubleGenotype o1 = p1.newInstance();
+		DoubleGenotype o2 = p2.newInstance();
+		addAll(v1, o1);
+		addAll(v2, o2);
+		normalize.normalize(o1);
+		normalize.normalize(o2);
+
+		return new Pair<DoubleGenotype>(o1, o2);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.Crossover#crossoverLazy(org.opt4j.core.
+	 * Genotype, org.opt4j.core.Genotype)
+	 */
+	@Override
+	public Pair<DoubleGenotype> crossoverLazy(DoubleGenotype p1, final DoubleGenotype p2) {
+		if (LIST_OVERRIDDEN.get(getClass())) {
+			return super.crossover(p1, p2);
+		}
+
+		int size = p1.size();
+		double[] v1 = new double[size];
+		final double[] v2 = new double[size];
+
+		crossover(p1, p2, v1, v2);
+
+		DoubleGenotype o1 = p1.newInstance();
+		addAll(v1, o1);
+		normalize.normalize(o1);
+
+		return new LazyPair<DoubleGenotype>(o1, () -> {
+			DoubleGenotype o2 = p2.newInstance();
+			addAll(v2, o2);
+			normalize.normalize(o2);
+			return o2;
+		});
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -60,14 +138,98 @@ public abstract class CrossoverDoubleElementwise extends CrossoverDouble {
 	@Override
 	protected void crossover(List<Double> p1, List<Double> p2, List<Double> o1, List<Double> o2) {
 		int size = p1.size();
+		double[] v1 = new double[size];
+		double[] v2 = new double[size];
+
+		crossover(p1, p2, v1, v2);
+
+		addAll(v1, o1);
+		addAll(v2, o2);
+	}
+
+	/**
+	 * Performs the crossover for all values of the parents and writes the
+	 * values of the offspring into the given arrays.
+	 * 
+	 * @param p1
+	 *            the first parent
+	 * @param p2
+	 *            the second parent
+	 * @param v1
+	 *            the values of the first offspring
+	 * @param v2
+	 *            the values of the second offspring
+	 */
+	protected void crossover(List<Double> p1, List<Double> p2, double[] v1, double[] v2) {
+		if (vectorized) {
+			crossover(toArray(p1), toArray(p2), v1, v2);
+		} else {
+			for (int i = 0; i < v1.length; i++) {
+				crossover(p1.get(i), p2.get(i), v1, v2, i);
+			}
+		}
+	}
 
-		for (int i = 0; i < size; i++) {
-			Pair<Double> values = crossover(p1.get(i), p2.get(i));
-			o1.add(values.getFirst());
-			o2.add(values.getSecond());
+	/**
+	 * Performs the crossover for all values of the parents at once (used for
+	 * the vectorized processing). The default implementation applies the
+	 * element kernel to each position.
+	 * 
+	 * @param x
+	 *            the values of the first parent
+	 * @param y
+	 *            the values of the second parent
+	 * @param o1
+	 *            the values of the first offspring
+	 * @param o2
+	 *            the values of the second offspring
+	 */
+	public void crossover(double[] x, double[] y, double[] o1, double[] o2) {
+		for (int i = 0; i < x.length; i++) {
+			crossover(x[i], y[i], o1, o2, i);
 		}
 	}
 
+	/**
+	 * Performs a crossover with two double values and writes the resulting
+	 * values to the given position of the offspring arrays. The default
+	 * implementation delegates to {@link #crossover(double, double)}.
+	 * 
+	 * @param x
+	 *            the first value
+	 * @param y
+	 *            the second value
+	 * @param o1
+	 *            the values of the first offspring
+	 * @param o2
+	 *            the values of the second offspring
+	 * @param i
+	 *            the position
+	 */
+	public void crossover(double x, double y, double[] o1, double[] o2, int i) {
+		Pair<Double> values = crossover(x, y);
+		o1[i] = values.getFirst();
+		o2[i] = values.getSecond();
+	}
+
+	/**
+	 * Performs the primitive crossover kernel for a single pair of values.
+	 * This is a helper for subclasses that implement
+	 * {@link #crossover(double, double)} by means of the kernel.
+	 * 
+	 * @param x
+	 *            the first value
+	 * @param y
+	 *            the second value
+	 * @return the resulting values
+	 */
+	protected Pair<Double> crossoverKernel(double x, double y) {
+		double[] o1 = new double[1];
+		double[] o2 = new double[1];
+		crossover(x, y, o1, o2, 0);
+		return new Pair<Double>(o1[0], o2[0]);
+	}
+
 	/**
 	 * Performs a crossover with two double values.
 	 * 
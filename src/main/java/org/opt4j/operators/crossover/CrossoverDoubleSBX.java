@@ -102,6 +102,18 @@ public class CrossoverDoubleSBX extends CrossoverDoubleElementwise {
 	 */
 	@Override
 	public Pair<Double> crossover(double x, double y) {
+		return crossoverKernel(x, y);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverDoubleElementwise#crossover(double
+	 * , double, double[], double[], int)
+	 */
+	@Override
+	public void crossover(double x, double y, double[] o1, double[] o2, int i) {
 		double u = random.nextDouble(); // [0,1)
 		double beta;
 		if (0.5 <= u) {
@@ -110,16 +122,51 @@ public class CrossoverDoubleSBX extends CrossoverDoubleElementwise {
 			beta = Math.pow(1 / (2 - 2 * u), 1 / (nu + 1));
 		}
 
-		double o1 = 0.5 * ((1 + beta) * x + (1 - beta) * y);
-		double o2 = 0.5 * ((1 - beta) * x + (1 + beta) * y);
+		double a = 0.5 * ((1 + beta) * x + (1 - beta) * y);
+		double b = 0.5 * ((1 - beta) * x + (1 + beta) * y);
 
 		if (random.nextDouble() < 0.5) {
-			double tmp = o1;
-			o1 = o2;
-			o2 = tmp;
+			o1[i] = b;
+			o2[i] = a;
+		} else {
+			o1[i] = a;
+			o2[i] = b;
 		}
+	}
 
-		return new Pair<Double>(o1, o2);
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverDoubleElementwise#crossover(double
+	 * [], double[], double[], double[])
+	 */
+	@Override
+	public void crossover(double[] x, double[] y, double[] o1, double[] o2) {
+		int n = x.length;
+		// The random numbers in the order of the scalar processing.
+		double[] u = new double[n];
+		double[] s = new double[n];
+		for (int i = 0; i < n; i++) {
+			u[i] = random.nextDouble();
+			s[i] = random.nextDouble();
+		}
+
+		double exponent = 1 / (nu + 1);
+		double[] beta = u;
+		for (int i = 0; i < n; i++) {
+			double ui = u[i];
+			beta[i] = Math.pow(0.5 <= ui ? 2 * ui : 1 / (2 - 2 * ui), exponent);
+		}
+
+		for (int i = 0; i < n; i++) {
+			double b = beta[i];
+			double a1 = 0.5 * ((1 + b) * x[i] + (1 - b) * y[i]);
+			double a2 = 0.5 * ((1 - b) * x[i] + (1 + b) * y[i]);
+			boolean swap = s[i] < 0.5;
+			o1[i] = swap ? a2 : a1;
+			o2[i] = swap ? a1 : a2;
+		}
 	}
 
 }
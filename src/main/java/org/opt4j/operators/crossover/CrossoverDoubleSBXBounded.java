@@ -0,0 +1,334 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.crossover;
+
+import java.util.List;
+
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.genotype.DoubleGenotype;
+import org.opt4j.core.start.Constant;
+import org.opt4j.operators.normalize.NormalizeDouble;
+
+import com.google.inject.Inject;
+
+/**
+ * The {@link CrossoverDoubleSBXBounded} is an implementation of the simulated
+ * binary crossover with the bounded spread factor of Deb and Agrawal, 1995.
+ * 
+ * <p>
+ * In contrast to the {@link CrossoverDoubleSBX}, the probability distribution
+ * of the spread factor is truncated at the bounds of each gene. For the
+ * parents {@code y_1 <= y_2} with {@code d = y_2 - y_1}, the lower child is
+ * created with<br>
+ * {@code beta = 1 + 2 (y_1 - lb) / d} and {@code alpha = 2 - beta^-(nu + 1)}
+ * <br>
+ * {@code beta_q = (u alpha)^(1 / (nu + 1))} if {@code u alpha <= 1} and<br>
+ * {@code beta_q = (1 / (2 - u alpha))^(1 / (nu + 1))} otherwise<br>
+ * {@code z_1 = 0.5 * [(y_1 + y_2) - beta_q d]}<br>
+ * and the upper child analogously with {@code beta = 1 + 2 (ub - y_2) / d}.
+ * The children are assigned to the offspring randomly.
+ * </p>
+ * <p>
+ * Since the children are always within the bounds, the offspring are not
+ * normalized. The powers of the spread factor are computed by multiplication
+ * if {@code nu} is an integer and the roots by repeated
+ * {@link Math#sqrt(double)} and {@link Math#cbrt(double)} if {@code nu + 1}
+ * is a product of powers of two and three, e.g., 2, 3, 6, 9, or 16.
+ * </p>
+ * 
+ * @author diewald
+ * 
+ */
+public class CrossoverDoubleSBXBounded extends CrossoverDouble {
+
+	protected static final double EPSILON = 1e-14;
+
+	protected final double nu;
+
+	protected final int exponent;
+
+	protected final int squareRoots;
+
+	protected final int cubeRoots;
+
+	/**
+	 * Constructs a {@link CrossoverDoubleSBXBounded} with a nu value and a
+	 * random generator.
+	 * 
+	 * @param nu
+	 *            the {@code nu} value
+	 * @param normalize
+	 *            the normalize operator
+	 * @param random
+	 *            the random number generator
+	 */
+	@Inject
+	public CrossoverDoubleSBXBounded(@Constant(value = "nu", namespace = CrossoverDoubleSBX.class) double nu,
+			NormalizeDouble normalize, Rand random) {
+		super(normalize, random);
+		this.nu = nu;
+
+		double e = nu + 1;
+		this.exponent = (e == Math.rint(e) && e >= 1 && e <= 64) ? (int) e : 0;
+
+		// Decomposes the exponent into 2^squareRoots * 3^cubeRoots.
+		int rest = exponent;
+		int squares = 0;
+		int cubes = 0;
+		while (rest > 1 && rest % 2 == 0) {
+			rest /= 2;
+			squares++;
+		}
+		while (rest > 1 && rest % 3 == 0) {
+			rest /= 3;
+			cubes++;
+		}
+		this.squareRoots = rest == 1 ? squares : -1;
+		this.cubeRoots = rest == 1 ? cubes : -1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverDouble#crossover(org.opt4j.core.
+	 * genotype.DoubleGenotype, org.opt4j.core.genotype.DoubleGenotype)
+	 */
+	@Override
+	public Pair<DoubleGenotype> crossover(DoubleGenotype p1, DoubleGenotype p2) {
+		return crossover(p1, p2, p1.newInstance(), p2.newInstance());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.Crossover#crossoverLazy(org.opt4j.core.
+	 * Genotype, org.opt4j.core.Genotype)
+	 */
+	@Override
+	public Pair<DoubleGenotype> crossoverLazy(DoubleGenotype p1, final DoubleGenotype p2) {
+		int size = p1.size();
+		double[] v1 = new double[size];
+		final double[] v2 = new double[size];
+
+		crossover(p1, p2, v1, v2, p1);
+
+		DoubleGenotype o1 = p1.newInstance();
+		addAll(v1, o1);
+
+		return new LazyPair<DoubleGenotype>(o1, () -> {
+			DoubleGenotype o2 = p2.newInstance();
+			addAll(v2, o2);
+			return o2;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverDouble#crossover(org.opt4j.core.
+	 * genotype.DoubleGenotype, org.opt4j.core.genotype.DoubleGenotype,
+	 * org.opt4j.core.genotype.DoubleGenotype,
+	 * org.opt4j.core.genotype.DoubleGenotype)
+	 */
+	@Override
+	public Pair<DoubleGenotype> crossover(DoubleGenotype p1, DoubleGenotype p2, DoubleGenotype o1,
+			DoubleGenotype o2) {
+		o1.clear();
+		o2.clear();
+
+		crossover(p1, p2, o1, o2, p1);
+
+		Pair<DoubleGenotype> offspring = new Pair<DoubleGenotype>(o1, o2);
+		return offspring;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverDouble#crossover(java.util.List,
+	 * java.util.List, java.util.List, java.util.List)
+	 */
+	@Override
+	protected void crossover(List<Double> p1, List<Double> p2, List<Double> o1, List<Double> o2) {
+		crossover(p1, p2, o1, o2, null);
+	}
+
+	/**
+	 * Performs the crossover for all genes.
+	 * 
+	 * @param p1
+	 *            the first parent
+	 * @param p2
+	 *            the second parent
+	 * @param o1
+	 *            the first offspring
+	 * @param o2
+	 *            the second offspring
+	 * @param bounds
+	 *            the genotype that defines the bounds or {@code null} if the
+	 *            genes are unbounded
+	 */
+	protected void crossover(List<Double> p1, List<Double> p2, List<Double> o1, List<Double> o2,
+			DoubleGenotype bounds) {
+		int size = p1.size();
+		double[] v1 = new double[size];
+		double[] v2 = new double[size];
+
+		crossover(p1, p2, v1, v2, bounds);
+
+		addAll(v1, o1);
+		addAll(v2, o2);
+	}
+
+	/**
+	 * Performs the crossover for all genes and writes the values of the
+	 * offspring into the given arrays.
+	 * 
+	 * @param p1
+	 *            the first parent
+	 * @param p2
+	 *            the second parent
+	 * @param v1
+	 *            the values of the first offspring
+	 * @param v2
+	 *            the values of the second offspring
+	 * @param bounds
+	 *            the genotype that defines the bounds or {@code null} if the
+	 *            genes are unbounded
+	 */
+	protected void crossover(List<Double> p1, List<Double> p2, double[] v1, double[] v2, DoubleGenotype bounds) {
+		for (int i = 0; i < v1.length; i++) {
+			double lb = bounds != null ? bounds.getLowerBound(i) : Double.NEGATIVE_INFINITY;
+			double ub = bounds != null ? bounds.getUpperBound(i) : Double.POSITIVE_INFINITY;
+			crossover(p1.get(i), p2.get(i), lb, ub, v1, v2, i);
+		}
+	}
+
+	/**
+	 * Performs the crossover for a single gene and writes the children to the
+	 * given position of the offspring arrays.
+	 * 
+	 * @param x
+	 *            the value of the first parent
+	 * @param y
+	 *            the value of the second parent
+	 * @param lb
+	 *            the lower bound
+	 * @param ub
+	 *            the upper bound
+	 * @param o1
+	 *            the values of the first offspring
+	 * @param o2
+	 *            the values of the second offspring
+	 * @param i
+	 *            the position
+	 */
+	public void crossover(double x, double y, double lb, double ub, double[] o1, double[] o2, int i) {
+		double y1 = Math.max(Math.min(x, y), lb);
+		double y2 = Math.min(Math.max(x, y), ub);
+		double d = y2 - y1;
+
+		double c1;
+		double c2;
+		if (d > EPSILON) {
+			double u = random.nextDouble(); // [0,1)
+			double q1 = spread(u, 1 + 2 * (y1 - lb) / d);
+			double q2 = spread(u, 1 + 2 * (ub - y2) / d);
+			c1 = Math.max(0.5 * ((y1 + y2) - q1 * d), lb);
+			c2 = Math.min(0.5 * ((y1 + y2) + q2 * d), ub);
+		} else {
+			c1 = Math.min(Math.max(x, lb), ub);
+			c2 = Math.min(Math.max(y, lb), ub);
+		}
+
+		if (random.nextDouble() < 0.5) {
+			o1[i] = c2;
+			o2[i] = c1;
+		} else {
+			o1[i] = c1;
+			o2[i] = c2;
+		}
+	}
+
+	/**
+	 * Returns the spread factor {@code beta_q} for the random number {@code u}
+	 * and the bound factor {@code beta}.
+	 * 
+	 * @param u
+	 *            the random number in {@code [0,1)}
+	 * @param beta
+	 *            the bound factor ({@code >= 1})
+	 * @return the spread factor
+	 */
+	protected double spread(double u, double beta) {
+		double alpha = 2 - 1 / power(beta);
+		double v = u * alpha;
+		return root(v <= 1 ? v : 1 / (2 - v));
+	}
+
+	/**
+	 * Returns {@code v^(nu + 1)}.
+	 * 
+	 * @param v
+	 *            the value
+	 * @return the power
+	 */
+	protected double power(double v) {
+		if (exponent == 0) {
+			return Math.pow(v, nu + 1);
+		}
+		double result = 1;
+		for (int e = exponent; e > 0; e >>>= 1) {
+			if ((e & 1) != 0) {
+				result *= v;
+			}
+			v *= v;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns {@code v^(1 / (nu + 1))}.
+	 * 
+	 * @param v
+	 *            the value
+	 * @return the root
+	 */
+	protected double root(double v) {
+		if (squareRoots < 0) {
+			return Math.pow(v, 1 / (nu + 1));
+		}
+		for (int i = 0; i < squareRoots; i++) {
+			v = Math.sqrt(v);
+		}
+		for (int i = 0; i < cubeRoots; i++) {
+			v = Math.cbrt(v);
+		}
+		return v;
+	}
+
+}
@@ -98,6 +98,11 @@ public class CrossoverDoubleUnfairAverage extends CrossoverDouble {
 		int size = p1.size();
 		int j = random.nextInt(size);
 
+		if (vectorized) {
+			crossover(toArray(p1), toArray(p2), o1, o2, j);
+			return;
+		}
+
 		for (int i = 0; i < size; i++) {
 			x = p1.get(i);
 			y = p2.get(i);
@@ -114,4 +119,38 @@ public class CrossoverDoubleUnfairAverage extends CrossoverDouble {
 		}
 	}
 
+	/**
+	 * Performs the vectorized crossover with branch-free loops over the two
+	 * segments.
+	 * 
+	 * @param x
+	 *            the values of the first parent
+	 * @param y
+	 *            the values of the second parent
+	 * @param o1
+	 *            the first offspring
+	 * @param o2
+	 *            the second offspring
+	 * @param j
+	 *            the last position of the first segment
+	 */
+	protected void crossover(double[] x, double[] y, List<Double> o1, List<Double> o2, int j) {
+		int size = x.length;
+		double[] z1 = new double[size];
+		double[] z2 = new double[size];
+		int split = Math.min(j + 1, size);
+
+		for (int i = 0; i < split; i++) {
+			z1[i] = (1 + alpha) * x[i] - alpha * y[i];
+			z2[i] = (1 - alpha) * x[i] + alpha * y[i];
+		}
+		for (int i = split; i < size; i++) {
+			z1[i] = -alpha * x[i] + (1 + alpha) * y[i];
+			z2[i] = alpha * x[i] + (1 - alpha) * y[i];
+		}
+
+		addAll(z1, o1);
+		addAll(z2, o2);
+	}
+
 }
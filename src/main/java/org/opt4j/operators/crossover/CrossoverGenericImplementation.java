@@ -23,6 +23,10 @@
 
 package org.opt4j.operators.crossover;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
 import org.opt4j.core.Genotype;
 import org.opt4j.core.genotype.CompositeGenotype;
 import org.opt4j.operators.AbstractGenericOperator;
@@ -58,23 +62,199 @@ public class CrossoverGenericImplementation extends AbstractGenericOperator<Cros
 	 */
 	@Override
 	public Pair<Genotype> crossover(Genotype parent1, Genotype parent2) {
-		Crossover<Genotype> crossover = getOperator(parent1);
+		return crossover(getDispatch(parent1), parent1, parent2, null, null, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.Crossover#crossoverLazy(org.opt4j.core.
+	 * Genotype, org.opt4j.core.Genotype)
+	 */
+	@Override
+	public Pair<Genotype> crossoverLazy(Genotype parent1, Genotype parent2) {
+		return crossover(getDispatch(parent1), parent1, parent2, null, null, true);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.Crossover#crossover(org.opt4j.core.Genotype,
+	 * org.opt4j.core.Genotype, org.opt4j.core.Genotype,
+	 * org.opt4j.core.Genotype)
+	 */
+	@Override
+	public Pair<Genotype> crossover(Genotype parent1, Genotype parent2, Genotype offspring1, Genotype offspring2) {
+		return crossover(getDispatch(parent1), parent1, parent2, offspring1, offspring2, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.operators.crossover.Crossover#crossoverAll(java.util.List)
+	 */
+	@Override
+	public List<Pair<Genotype>> crossoverAll(List<Pair<Genotype>> parents) {
+		List<Pair<Genotype>> offspring = new ArrayList<Pair<Genotype>>(parents.size());
 
-		if (crossover == null) {
-			return crossoverComposite((CompositeGenotype<?, ?>) parent1, (CompositeGenotype<?, ?>) parent2);
+		// Parents of one batch usually share their class: resolve the dispatch once.
+		Class<?> clazz = null;
+		OperatorDispatch<Crossover<Genotype>> dispatch = null;
+
+		for (Pair<Genotype> pair : parents) {
+			Genotype parent1 = pair.getFirst();
+			Genotype parent2 = pair.getSecond();
+			if (parent1.getClass() != clazz) {
+				clazz = parent1.getClass();
+				dispatch = getDispatch(parent1);
+			}
+
+			offspring.add(crossover(dispatch, parent1, parent2, null, null, false));
+		}
+		return offspring;
+	}
+
+	/**
+	 * Performs the crossover with the given {@link OperatorDispatch}.
+	 * 
+	 * @param dispatch
+	 *            the dispatch of the first parent or {@code null} for a
+	 *            {@link CompositeGenotype}
+	 * @param parent1
+	 *            the first parent
+	 * @param parent2
+	 *            the second parent
+	 * @param offspring1
+	 *            the genotype that is reused for the first offspring or
+	 *            {@code null}
+	 * @param offspring2
+	 *            the genotype that is reused for the second offspring or
+	 *            {@code null}
+	 * @param lazy
+	 *            {@code true} if new second offspring may be created on demand
+	 *            (see {@link LazyPair})
+	 * @return the pair of offspring
+	 */
+	protected Pair<Genotype> crossover(OperatorDispatch<Crossover<Genotype>> dispatch, Genotype parent1,
+			Genotype parent2, Genotype offspring1, Genotype offspring2, boolean lazy) {
+		if (dispatch == null) {
+			return crossoverComposite((CompositeGenotype<?, ?>) parent1, (CompositeGenotype<?, ?>) parent2,
+					(CompositeGenotype<?, ?>) offspring1, (CompositeGenotype<?, ?>) offspring2, lazy);
 		} else {
-			return crossover.crossover(parent1, parent2);
+			Crossover<Genotype> crossover = getOperator(dispatch, parent1);
+			Timer timer = startTimer();
+			Pair<Genotype> offspring = crossover(crossover, parent1, parent2, offspring1, offspring2, lazy);
+			if (timer != null) {
+				timer.stop(parent1, crossover);
+			}
+			produced(dispatch, parent1, crossover, offspring.getFirst());
+			// A lazy second offspring is not created for the notification.
+			if (!(offspring instanceof LazyPair) || ((LazyPair<Genotype>) offspring).isMaterialized()) {
+				produced(dispatch, parent1, crossover, offspring.getSecond());
+			}
+			return offspring;
+		}
+	}
+
+	/**
+	 * Performs the crossover with the given operator and reuses the offspring
+	 * genotypes if both are given.
+	 * 
+	 * @param crossover
+	 *            the crossover operator
+	 * @param parent1
+	 *            the first parent
+	 * @param parent2
+	 *            the second parent
+	 * @param offspring1
+	 *            the genotype that is reused for the first offspring or
+	 *            {@code null}
+	 * @param offspring2
+	 *            the genotype that is reused for the second offspring or
+	 *            {@code null}
+	 * @param lazy
+	 *            {@code true} if new second offspring may be created on demand
+	 * @return the pair of offspring
+	 */
+	private static Pair<Genotype> crossover(Crossover<Genotype> crossover, Genotype parent1, Genotype parent2,
+			Genotype offspring1, Genotype offspring2, boolean lazy) {
+		if (offspring1 == null || offspring2 == null) {
+			return lazy ? crossover.crossoverLazy(parent1, parent2) : crossover.crossover(parent1, parent2);
 		}
+		return crossover.crossover(parent1, parent2, offspring1, offspring2);
 	}
 
-	protected Pair<Genotype> crossoverComposite(CompositeGenotype<?, ?> p1, CompositeGenotype<?, ?> p2) {
-		CompositeGenotype<Object, Genotype> o1 = p1.newInstance();
-		CompositeGenotype<Object, Genotype> o2 = p2.newInstance();
+	/**
+	 * Performs the crossover for each element of the {@link CompositeGenotype}
+	 * parents. If offspring genotypes are given, the offspring elements are
+	 * reused and replaced. Otherwise, new offspring are created and, if
+	 * {@code lazy} is set, the second offspring is assembled on demand (see
+	 * {@link LazyPair}).
+	 * 
+	 * @param p1
+	 *            the first parent
+	 * @param p2
+	 *            the second parent
+	 * @param offspring1
+	 *            the genotype that is reused for the first offspring or
+	 *            {@code null}
+	 * @param offspring2
+	 *            the genotype that is reused for the second offspring or
+	 *            {@code null}
+	 * @param lazy
+	 *            {@code true} if new second offspring may be created on demand
+	 * @return the pair of offspring
+	 */
+	@SuppressWarnings("unchecked")
+	protected Pair<Genotype> crossoverComposite(CompositeGenotype<?, ?> p1, CompositeGenotype<?, ?> p2,
+			CompositeGenotype<?, ?> offspring1, CompositeGenotype<?, ?> offspring2, boolean lazy) {
+		boolean reuse = offspring1 != null && offspring2 != null;
+		CompositeGenotype<Object, Genotype> o1 = reuse ? (CompositeGenotype<Object, Genotype>) offspring1
+				: p1.newInstance();
+		final CompositeGenotype<Object, Genotype> o2 = reuse ? (CompositeGenotype<Object, Genotype>) offspring2
+				: p2.newInstance();
+		CompositePlan<Crossover<Genotype>> plan = getPlan(p1);
+
+		if (!reuse && lazy) {
+			// Keep the element pairs such that lazy second offspring of the
+			// elements are only created if the second offspring is requested.
+			final List<Object> keys = new ArrayList<Object>();
+			final List<Pair<Genotype>> pairs = new ArrayList<Pair<Genotype>>();
+			CompositeCursor children2 = new CompositeCursor(p2);
+
+			int i = 0;
+			for (Entry<?, ? extends Genotype> entry : p1) {
+				final Object key = entry.getKey();
+				final Genotype g1 = entry.getValue();
+				final Genotype g2 = children2.next(key);
+				Pair<Genotype> genotype = crossover(getDispatch(plan, i++, g1), g1, g2, null, null, true);
+				o1.put(key, genotype.getFirst());
+				keys.add(key);
+				pairs.add(genotype);
+			}
+
+			return new LazyPair<Genotype>(o1, () -> {
+				for (int j = 0; j < keys.size(); j++) {
+					o2.put(keys.get(j), pairs.get(j).getSecond());
+				}
+				return o2;
+			});
+		}
+
+		CompositeCursor children2 = new CompositeCursor(p2);
+		CompositeCursor offspring1Children = reuse ? new CompositeCursor(o1) : null;
+		CompositeCursor offspring2Children = reuse ? new CompositeCursor(o2) : null;
 
-		for (Object key : p1.keySet()) {
-			final Genotype g1 = p1.get(key);
-			final Genotype g2 = p2.get(key);
-			Pair<Genotype> genotype = crossover(g1, g2);
+		int i = 0;
+		for (Entry<?, ? extends Genotype> entry : p1) {
+			final Object key = entry.getKey();
+			final Genotype g1 = entry.getValue();
+			final Genotype g2 = children2.next(key);
+			final Genotype c1 = reuse ? offspring1Children.next(key) : null;
+			final Genotype c2 = reuse ? offspring2Children.next(key) : null;
+			Pair<Genotype> genotype = crossover(getDispatch(plan, i++, g1), g1, g2, c1, c2, false);
 			o1.put(key, genotype.getFirst());
 			o2.put(key, genotype.getSecond());
 		}
@@ -23,10 +23,12 @@
 
 package org.opt4j.operators.crossover;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.ListGenotype;
+import org.opt4j.operators.SkipSampling;
 
 import com.google.inject.Inject;
 
@@ -38,6 +40,11 @@ import com.google.inject.Inject;
  * <p>
  * A point of crossover of the list is selected with a given {@code rate}.
  * </p>
+ * <p>
+ * The gaps between the crossover points are drawn from the geometric
+ * distribution (see {@link SkipSampling}) and the segments between them are
+ * copied in bulk.
+ * </p>
  * 
  * @author lukasiewycz
  * 
@@ -70,32 +77,83 @@ public abstract class CrossoverListRate<G extends ListGenotype<?>> implements Cr
 	 * org.opt4j.core.Genotype)
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public Pair<G> crossover(G p1, G p2) {
+		boolean select = random.nextBoolean();
+		int[] points = points(p1.size());
 
-		ListGenotype<Object> o1 = p1.newInstance();
-		ListGenotype<Object> o2 = p2.newInstance();
+		G o1 = p1.newInstance();
+		G o2 = p2.newInstance();
+		CrossoverListXPoint.fill(p1, p2, points, select, o1);
+		CrossoverListXPoint.fill(p2, p1, points, select, o2);
 
-		int size = p1.size();
+		Pair<G> offspring = new Pair<G>(o1, o2);
+		return offspring;
+	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.Crossover#crossoverLazy(org.opt4j.core.
+	 * Genotype, org.opt4j.core.Genotype)
+	 */
+	@Override
+	public Pair<G> crossoverLazy(final G p1, final G p2) {
+		final boolean select = random.nextBoolean();
+		final int[] points = points(p1.size());
+
+		G o1 = p1.newInstance();
+		CrossoverListXPoint.fill(p1, p2, points, select, o1);
+
+		return new LazyPair<G>(o1, () -> {
+			G o2 = p2.newInstance();
+			CrossoverListXPoint.fill(p2, p1, points, select, o2);
+			return o2;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.Crossover#crossover(org.opt4j.core.Genotype,
+	 * org.opt4j.core.Genotype, org.opt4j.core.Genotype,
+	 * org.opt4j.core.Genotype)
+	 */
+	@Override
+	public Pair<G> crossover(G p1, G p2, G o1, G o2) {
 		boolean select = random.nextBoolean();
+		int[] points = points(p1.size());
 
-		for (int i = 0; i < size; i++) {
-			if (random.nextDouble() < rate) {
-				select = !select;
-			}
+		o1.clear();
+		o2.clear();
+		CrossoverListXPoint.fill(p1, p2, points, select, o1);
+		CrossoverListXPoint.fill(p2, p1, points, select, o2);
 
-			if (select) {
-				o1.add(p1.get(i));
-				o2.add(p2.get(i));
-			} else {
-				o1.add(p2.get(i));
-				o2.add(p1.get(i));
+		Pair<G> offspring = new Pair<G>(o1, o2);
+		return offspring;
+	}
+
+	/**
+	 * Returns the crossover points in ascending order. Each position is a
+	 * crossover point with the probability {@code rate}; the gaps between the
+	 * points are drawn with {@link SkipSampling}.
+	 * 
+	 * @param size
+	 *            the size of the genotype
+	 * @return the crossover points
+	 */
+	protected int[] points(int size) {
+		int[] points = new int[0];
+		int count = 0;
+
+		for (int i = SkipSampling.next(random, rate, 0); i < size; i = SkipSampling.next(random, rate, i + 1)) {
+			if (count == points.length) {
+				points = Arrays.copyOf(points, Math.min(size, 2 * count + 8));
 			}
+			points[count++] = i;
 		}
-
-		Pair<G> offspring = new Pair<G>((G) o1, (G) o2);
-		return offspring;
+		return count == points.length ? points : Arrays.copyOf(points, count);
 	}
 
 }
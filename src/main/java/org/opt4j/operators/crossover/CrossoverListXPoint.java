@@ -23,9 +23,10 @@
 
 package org.opt4j.operators.crossover;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Random;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.ListGenotype;
@@ -39,7 +40,8 @@ import com.google.inject.Inject;
  * </p>
  * <p>
  * The crossover is performed on {@code x} points of the
- * {@link org.opt4j.core.Genotype}.
+ * {@link org.opt4j.core.Genotype}. The offspring are assembled from bulk copies
+ * of the segments between the crossover points.
  * </p>
  * 
  * @author lukasiewycz
@@ -73,48 +75,140 @@ public abstract class CrossoverListXPoint<G extends ListGenotype<?>> implements
 	 * org.opt4j.core.Genotype)
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public Pair<G> crossover(G p1, G p2) {
+		int size = p1.size();
+
+		if (x <= 0 || x > size - 1) {
+			throw new RuntimeException(this.getClass() + " : x is " + x + " for binary vector size " + size);
+		}
+
+		int[] points = points(size);
+		boolean select = !random.nextBoolean();
 
-		ListGenotype<Object> o1 = p1.newInstance();
-		ListGenotype<Object> o2 = p2.newInstance();
+		G o1 = p1.newInstance();
+		G o2 = p2.newInstance();
+		fill(p1, p2, points, select, o1);
+		fill(p2, p1, points, select, o2);
 
+		Pair<G> offspring = new Pair<G>(o1, o2);
+		return offspring;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.Crossover#crossoverLazy(org.opt4j.core.
+	 * Genotype, org.opt4j.core.Genotype)
+	 */
+	@Override
+	public Pair<G> crossoverLazy(final G p1, final G p2) {
 		int size = p1.size();
 
 		if (x <= 0 || x > size - 1) {
 			throw new RuntimeException(this.getClass() + " : x is " + x + " for binary vector size " + size);
 		}
 
-		SortedSet<Integer> points = new TreeSet<Integer>();
+		final int[] points = points(size);
+		final boolean select = !random.nextBoolean();
 
-		while (points.size() < x) {
-			points.add(random.nextInt(size - 1) + 1);
-		}
+		G o1 = p1.newInstance();
+		fill(p1, p2, points, select, o1);
+
+		return new LazyPair<G>(o1, () -> {
+			G o2 = p2.newInstance();
+			fill(p2, p1, points, select, o2);
+			return o2;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.Crossover#crossover(org.opt4j.core.Genotype,
+	 * org.opt4j.core.Genotype, org.opt4j.core.Genotype,
+	 * org.opt4j.core.Genotype)
+	 */
+	@Override
+	public Pair<G> crossover(G p1, G p2, G o1, G o2) {
+		int size = p1.size();
 
-		int flip = 0;
-		boolean select = random.nextBoolean();
-
-		for (int i = 0; i < size; i++) {
-			if (i == flip) {
-				select = !select;
-
-				if (points.size() > 0) {
-					flip = points.first();
-					points.remove(flip);
-				}
-			}
-
-			if (select) {
-				o1.add(p1.get(i));
-				o2.add(p2.get(i));
-			} else {
-				o1.add(p2.get(i));
-				o2.add(p1.get(i));
-			}
+		if (x <= 0 || x > size - 1) {
+			throw new RuntimeException(this.getClass() + " : x is " + x + " for binary vector size " + size);
 		}
 
-		Pair<G> offspring = new Pair<G>((G) o1, (G) o2);
+		int[] points = points(size);
+		boolean select = !random.nextBoolean();
+
+		o1.clear();
+		o2.clear();
+		fill(p1, p2, points, select, o1);
+		fill(p2, p1, points, select, o2);
+
+		Pair<G> offspring = new Pair<G>(o1, o2);
 		return offspring;
 	}
 
+	/**
+	 * Draws the {@code x} crossover points from {@code [1, size-1]} without
+	 * replacement (Floyd's algorithm).
+	 * 
+	 * @param size
+	 *            the size of the genotype
+	 * @return the crossover points in ascending order
+	 */
+	protected int[] points(int size) {
+		int m = size - 1;
+		BitSet set = new BitSet(size);
+
+		for (int j = m - x + 1; j <= m; j++) {
+			int t = random.nextInt(j) + 1;
+			set.set(set.get(t) ? j : t);
+		}
+
+		int[] points = new int[x];
+		for (int i = 0, p = set.nextSetBit(0); p >= 0; p = set.nextSetBit(p + 1)) {
+			points[i++] = p;
+		}
+		return points;
+	}
+
+	/**
+	 * Appends the segments between the crossover points alternately from the
+	 * two parents to the offspring. The first segment is taken from the first
+	 * parent if {@code select} is {@code true}.
+	 * 
+	 * @param p1
+	 *            the first parent
+	 * @param p2
+	 *            the second parent
+	 * @param points
+	 *            the crossover points in ascending order
+	 * @param select
+	 *            the selection of the first segment
+	 * @param offspring
+	 *            the offspring
+	 */
+	@SuppressWarnings("unchecked")
+	static void fill(List<?> p1, List<?> p2, int[] points, boolean select, List<?> offspring) {
+		List<Object> o = (List<Object>) offspring;
+		int size = p1.size();
+		ensureCapacity(o, o.size() + size);
+
+		int from = 0;
+		for (int k = 0; k <= points.length; k++) {
+			int to = k < points.length ? points[k] : size;
+			o.addAll((select ? p1 : p2).subList(from, to));
+			select = !select;
+			from = to;
+		}
+	}
+
+	static void ensureCapacity(List<?> list, int size) {
+		if (list instanceof ArrayList) {
+			((ArrayList<?>) list).ensureCapacity(size);
+		}
+	}
+
 }
@@ -23,9 +23,7 @@
 
 package org.opt4j.operators.crossover;
 
-import java.util.HashSet;
 import java.util.Random;
-import java.util.Set;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.PermutationGenotype;
@@ -59,7 +57,7 @@ import com.google.inject.Inject;
  * @author lukasiewycz
  * 
  */
-public class CrossoverPermutationBucket implements CrossoverPermutation {
+public class CrossoverPermutationBucket extends CrossoverPermutationIndexed {
 
 	protected final Random random;
 
@@ -78,47 +76,35 @@ public class CrossoverPermutationBucket implements CrossoverPermutation {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * org.opt4j.operator.crossover.Crossover#crossover(org.opt4j.core.Genotype,
-	 * org.opt4j.core.Genotype)
+	 * org.opt4j.operators.crossover.CrossoverPermutationIndexed#crossover(int[],
+	 * int[], int[])
 	 */
 	@Override
-	public Pair<PermutationGenotype<?>> crossover(PermutationGenotype<?> p1, PermutationGenotype<?> p2) {
-
-		PermutationGenotype<Object> o1 = p1.newInstance();
-		PermutationGenotype<Object> o2 = p1.newInstance();
-
-		int size = p1.size();
-
-		assert (size == p2.size()) : "Permutation is undefined for genotypes with different lengths.";
-		assert p1.containsAll(p2) : "Permutation is undefined for different domains.";
-
-		Set<Object> elements = new HashSet<Object>();
+	protected void crossover(int[] p2, int[] o1, int[] o2) {
+		int size = p2.length;
+		boolean[] elements = new boolean[size];
+		int n1 = 0;
+		int n2 = 0;
 
 		int i = 0;
 		int j = 0;
 
-		while (o1.size() != size || o2.size() != size) {
+		while (n1 != size || n2 != size) {
+			int e;
 			if (j == size || (random.nextBoolean() && i < size)) {
-				Object e = p1.get(i);
+				e = i;
 				i++;
-				if (elements.add(e)) {
-					o1.add(e);
-				} else {
-					o2.add(e);
-				}
 			} else {
-				Object e = p2.get(j);
+				e = p2[j];
 				j++;
+			}
 
-				if (elements.add(e)) {
-					o1.add(e);
-				} else {
-					o2.add(e);
-				}
+			if (!elements[e]) {
+				elements[e] = true;
+				o1[n1++] = e;
+			} else {
+				o2[n2++] = e;
 			}
 		}
-
-		Pair<PermutationGenotype<?>> offspring = new Pair<PermutationGenotype<?>>(o1, o2);
-		return offspring;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.crossover;
+
+import org.opt4j.core.genotype.PermutationGenotype;
+
+/**
+ * <p>
+ * The cycle crossover (CX) for the {@link PermutationGenotype}.
+ * </p>
+ * 
+ * <p>
+ * The positions of the permutations are partitioned into cycles such that
+ * the elements of a cycle occupy the same positions in both parents. The
+ * offspring take the cycles alternately from the first and the second parent.
+ * Thus, each element keeps the absolute position of one of the parents.
+ * </p>
+ * 
+ * <p>
+ * Given two permutations<br />
+ * {@code 1 2 3 4 5 6 7 8} and {@code 2 1 4 3 6 5 8 7}<br />
+ * this results in<br/>
+ * {@code 1 2 4 3 5 6 8 7} and {@code 2 1 3 4 6 5 7 8}.
+ * </p>
+ * 
+ * @author diewald
+ * 
+ */
+public class CrossoverPermutationCycle extends CrossoverPermutationIndexed {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverPermutationIndexed#crossover(int[],
+	 * int[], int[])
+	 */
+	@Override
+	protected void crossover(int[] p2, int[] o1, int[] o2) {
+		int size = p2.length;
+		boolean[] visited = new boolean[size];
+		boolean swap = false;
+
+		for (int i = 0; i < size; i++) {
+			if (!visited[i]) {
+				// The element p2[j] is located at position p2[j] in p1.
+				int j = i;
+				do {
+					visited[j] = true;
+					if (swap) {
+						o1[j] = p2[j];
+						o2[j] = j;
+					} else {
+						o1[j] = j;
+						o2[j] = p2[j];
+					}
+					j = p2[j];
+				} while (j != i);
+				swap = !swap;
+			}
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.crossover;
+
+import java.util.Random;
+
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.genotype.PermutationGenotype;
+
+import com.google.inject.Inject;
+
+/**
+ * <p>
+ * The edge recombination crossover (ERX) for the {@link PermutationGenotype}.
+ * </p>
+ * 
+ * <p>
+ * The edge recombination builds the union of the (cyclic) adjacencies of both
+ * parents. Starting with the first element of a parent, the offspring is
+ * extended by the adjacent element that has the fewest remaining adjacencies
+ * (ties are broken randomly). If the current element has no remaining
+ * adjacencies, a random element is chosen. The first offspring starts with the
+ * first element of the first parent, the second offspring with the first
+ * element of the second parent.
+ * </p>
+ * 
+ * <p>
+ * Each element has at most four adjacent elements such that the adjacencies
+ * are kept in a flat {@code int[]} array and the operator runs in linear time.
+ * </p>
+ * 
+ * @author diewald
+ * 
+ */
+public class CrossoverPermutationEdgeRecombination extends CrossoverPermutationIndexed {
+
+	protected static final int EDGES = 4;
+
+	protected final Random random;
+
+	/**
+	 * Constructs a new {@link CrossoverPermutationEdgeRecombination}.
+	 * 
+	 * @param random
+	 *            the random number generator
+	 */
+	@Inject
+	public CrossoverPermutationEdgeRecombination(Rand random) {
+		this.random = random;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverPermutationIndexed#crossover(int[],
+	 * int[], int[])
+	 */
+	@Override
+	protected void crossover(int[] p2, int[] o1, int[] o2) {
+		int size = p2.length;
+
+		int[] edges = new int[EDGES * size];
+		int[] degrees = new int[size];
+		for (int i = 0; i < size; i++) {
+			addEdge(edges, degrees, i, (i + size - 1) % size);
+			addEdge(edges, degrees, i, (i + 1) % size);
+			addEdge(edges, degrees, p2[i], p2[(i + size - 1) % size]);
+			addEdge(edges, degrees, p2[i], p2[(i + 1) % size]);
+		}
+
+		recombine(0, edges.clone(), degrees.clone(), o1);
+		recombine(p2[0], edges, degrees, o2);
+	}
+
+	/**
+	 * Builds an encoded offspring from the adjacencies. The adjacencies are
+	 * consumed.
+	 * 
+	 * @param start
+	 *            the first element
+	 * @param edges
+	 *            the adjacent elements ({@link #EDGES} slots per element)
+	 * @param degrees
+	 *            the number of adjacent elements per element
+	 * @param offspring
+	 *            the encoded offspring
+	 */
+	protected void recombine(int start, int[] edges, int[] degrees, int[] offspring) {
+		int size = degrees.length;
+
+		// The unvisited elements and their slots allow a constant time removal
+		// and random choice.
+		int[] unvisited = new int[size];
+		int[] slots = new int[size];
+		for (int i = 0; i < size; i++) {
+			unvisited[i] = i;
+			slots[i] = i;
+		}
+		int remaining = size;
+
+		int current = start;
+		for (int k = 0; k < size; k++) {
+			offspring[k] = current;
+
+			remaining--;
+			int slot = slots[current];
+			int last = unvisited[remaining];
+			unvisited[slot] = last;
+			slots[last] = slot;
+
+			int next = -1;
+			int min = Integer.MAX_VALUE;
+			int ties = 0;
+			int offset = EDGES * current;
+			for (int m = 0; m < degrees[current]; m++) {
+				int neighbor = edges[offset + m];
+				removeEdge(edges, degrees, neighbor, current);
+				int degree = degrees[neighbor];
+				if (degree < min) {
+					min = degree;
+					next = neighbor;
+					ties = 1;
+				} else if (degree == min && random.nextInt(++ties) == 0) {
+					next = neighbor;
+				}
+			}
+
+			if (next < 0 && remaining > 0) {
+				next = unvisited[random.nextInt(remaining)];
+			}
+			current = next;
+		}
+	}
+
+	/**
+	 * Adds the adjacent element {@code v} to the element {@code u} if it is
+	 * not contained yet.
+	 * 
+	 * @param edges
+	 *            the adjacent elements
+	 * @param degrees
+	 *            the number of adjacent elements per element
+	 * @param u
+	 *            the element
+	 * @param v
+	 *            the adjacent element
+	 */
+	protected static void addEdge(int[] edges, int[] degrees, int u, int v) {
+		if (u == v) {
+			return;
+		}
+		int offset = EDGES * u;
+		int degree = degrees[u];
+		for (int m = 0; m < degree; m++) {
+			if (edges[offset + m] == v) {
+				return;
+			}
+		}
+		edges[offset + degree] = v;
+		degrees[u] = degree + 1;
+	}
+
+	/**
+	 * Removes the adjacent element {@code v} from the element {@code u}.
+	 * 
+	 * @param edges
+	 *            the adjacent elements
+	 * @param degrees
+	 *            the number of adjacent elements per element
+	 * @param u
+	 *            the element
+	 * @param v
+	 *            the adjacent element
+	 */
+	protected static void removeEdge(int[] edges, int[] degrees, int u, int v) {
+		int offset = EDGES * u;
+		int degree = degrees[u] - 1;
+		for (int m = 0; m <= degree; m++) {
+			if (edges[offset + m] == v) {
+				edges[offset + m] = edges[offset + degree];
+				degrees[u] = degree;
+				return;
+			}
+		}
+	}
+}
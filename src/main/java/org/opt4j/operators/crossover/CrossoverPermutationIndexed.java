@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.crossover;
+
+import org.opt4j.core.genotype.PermutationGenotype;
+
+/**
+ * The {@link CrossoverPermutationIndexed} can be used to derive
+ * {@link CrossoverPermutation} operators that work on the
+ * {@link PermutationIndex} encoding of the parents: The first parent is
+ * encoded as the identity {@code 0..n-1} and the second parent by the
+ * positions of its elements in the first parent. Subclasses implement the
+ * {@link #crossover(int[], int[], int[])} kernel on this encoding.
+ * <p>
+ * The offspring are decoded once. For {@link #crossoverLazy}, the second
+ * offspring is decoded on demand (see {@link LazyPair}).
+ * 
+ * @author diewald
+ * 
+ */
+public abstract class CrossoverPermutationIndexed implements CrossoverPermutation {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operator.crossover.Crossover#crossover(org.opt4j.core.Genotype,
+	 * org.opt4j.core.Genotype)
+	 */
+	@Override
+	public Pair<PermutationGenotype<?>> crossover(PermutationGenotype<?> p1, PermutationGenotype<?> p2) {
+		return crossover(p1, p2, p1.newInstance(), p1.newInstance());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.Crossover#crossoverLazy(org.opt4j.core.
+	 * Genotype, org.opt4j.core.Genotype)
+	 */
+	@Override
+	public Pair<PermutationGenotype<?>> crossoverLazy(final PermutationGenotype<?> p1, PermutationGenotype<?> p2) {
+		final PermutationIndex index = new PermutationIndex(p1);
+		final int size = index.size();
+		int[] r1 = new int[size];
+		final int[] r2 = new int[size];
+
+		crossover(index, p2, r1, r2);
+
+		PermutationGenotype<Object> o1 = p1.newInstance();
+		index.decode(r1, size, o1);
+
+		return new LazyPair<PermutationGenotype<?>>(o1, () -> {
+			PermutationGenotype<Object> o2 = p1.newInstance();
+			index.decode(r2, size, o2);
+			return o2;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.Crossover#crossover(org.opt4j.core.Genotype,
+	 * org.opt4j.core.Genotype, org.opt4j.core.Genotype,
+	 * org.opt4j.core.Genotype)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Pair<PermutationGenotype<?>> crossover(PermutationGenotype<?> p1, PermutationGenotype<?> p2,
+			PermutationGenotype<?> offspring1, PermutationGenotype<?> offspring2) {
+
+		PermutationGenotype<Object> o1 = (PermutationGenotype<Object>) offspring1;
+		PermutationGenotype<Object> o2 = (PermutationGenotype<Object>) offspring2;
+		o1.clear();
+		o2.clear();
+
+		PermutationIndex index = new PermutationIndex(p1);
+		int size = index.size();
+		int[] r1 = new int[size];
+		int[] r2 = new int[size];
+
+		crossover(index, p2, r1, r2);
+
+		index.decode(r1, size, o1);
+		index.decode(r2, size, o2);
+
+		Pair<PermutationGenotype<?>> offspring = new Pair<PermutationGenotype<?>>(o1, o2);
+		return offspring;
+	}
+
+	/**
+	 * Encodes the second parent and applies the kernel.
+	 * 
+	 * @param index
+	 *            the index of the first parent
+	 * @param p2
+	 *            the second parent
+	 * @param o1
+	 *            the encoded first offspring
+	 * @param o2
+	 *            the encoded second offspring
+	 */
+	private void crossover(PermutationIndex index, PermutationGenotype<?> p2, int[] o1, int[] o2) {
+		assert (index.size() == p2.size()) : "Permutation is undefined for genotypes with different lengths.";
+
+		if (index.size() > 0) {
+			crossover(index.encode(p2), o1, o2);
+		}
+	}
+
+	/**
+	 * Performs the crossover on the encoded parents. The first parent is the
+	 * identity {@code 0..n-1}.
+	 * 
+	 * @param p2
+	 *            the encoded second parent (not empty)
+	 * @param o1
+	 *            the encoded first offspring
+	 * @param o2
+	 *            the encoded second offspring
+	 */
+	protected abstract void crossover(int[] p2, int[] o1, int[] o2);
+
+}
@@ -23,9 +23,7 @@
 
 package org.opt4j.operators.crossover;
 
-import java.util.HashSet;
 import java.util.Random;
-import java.util.Set;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.PermutationGenotype;
@@ -60,7 +58,7 @@ import com.google.inject.Inject;
  * @author lukasiewycz
  * 
  */
-public class CrossoverPermutationOnePoint implements CrossoverPermutation {
+public class CrossoverPermutationOnePoint extends CrossoverPermutationIndexed {
 
 	protected final Random random;
 
@@ -86,54 +84,43 @@ public class CrossoverPermutationOnePoint implements CrossoverPermutation {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * org.opt4j.operator.crossover.Crossover#crossover(org.opt4j.core.Genotype,
-	 * org.opt4j.core.Genotype)
+	 * org.opt4j.operators.crossover.CrossoverPermutationIndexed#crossover(int[],
+	 * int[], int[])
 	 */
 	@Override
-	public Pair<PermutationGenotype<?>> crossover(PermutationGenotype<?> p1, PermutationGenotype<?> p2) {
-
-		PermutationGenotype<Object> o1 = p1.newInstance();
-		PermutationGenotype<Object> o2 = p1.newInstance();
-
-		int size = p1.size();
-
-		assert (size == p2.size()) : "Permutation is undefined for genotypes with different lengths.";
-		assert p1.containsAll(p2) : "Permutation is undefined for different domains.";
-
-		if (size > 0) {
-			Set<Object> elements1 = new HashSet<Object>();
-			Set<Object> elements2 = new HashSet<Object>();
-
-			int offset = rotation ? random.nextInt(size) : 0;
+	protected void crossover(int[] p2, int[] o1, int[] o2) {
+		int size = p2.length;
+		boolean[] elements1 = new boolean[size];
+		boolean[] elements2 = new boolean[size];
+		int n1 = 0;
+		int n2 = 0;
+
+		int offset = rotation ? random.nextInt(size) : 0;
+
+		int cutpoint = random.nextInt(size);
+
+		for (int i = 0; i < cutpoint; i++) {
+			final int pos = (offset + i) % size;
+			int e1 = pos;
+			int e2 = p2[pos];
+			o1[n1++] = e1;
+			o2[n2++] = e2;
+			elements1[e1] = true;
+			elements2[e2] = true;
+		}
 
-			int cutpoint = random.nextInt(size);
+		offset = rotation ? random.nextInt(size) : 0;
 
-			for (int i = 0; i < cutpoint; i++) {
-				final int pos = (offset + i) % size;
-				Object e1 = p1.get(pos);
-				Object e2 = p2.get(pos);
-				o1.add(e1);
-				o2.add(e2);
-				elements1.add(e1);
-				elements2.add(e2);
+		for (int i = 0; i < size; i++) {
+			final int pos = (offset + i) % size;
+			int e1 = pos;
+			int e2 = p2[pos];
+			if (!elements1[e2]) {
+				o1[n1++] = e2;
 			}
-
-			offset = rotation ? random.nextInt(size) : 0;
-
-			for (int i = 0; i < size; i++) {
-				final int pos = (offset + i) % size;
-				Object e1 = p1.get(pos);
-				Object e2 = p2.get(pos);
-				if (!elements1.contains(e2)) {
-					o1.add(e2);
-				}
-				if (!elements2.contains(e1)) {
-					o2.add(e1);
-				}
+			if (!elements2[e1]) {
+				o2[n2++] = e1;
 			}
 		}
-
-		Pair<PermutationGenotype<?>> offspring = new Pair<PermutationGenotype<?>>(o1, o2);
-		return offspring;
 	}
 }
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.crossover;
+
+import java.util.Random;
+
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.genotype.PermutationGenotype;
+
+import com.google.inject.Inject;
+
+/**
+ * <p>
+ * The order crossover (OX1) for the {@link PermutationGenotype}.
+ * </p>
+ * 
+ * <p>
+ * Each offspring takes the elements between two random cut points from one
+ * parent. Starting at the second cut point, the remaining positions are filled
+ * with the missing elements in the order in which they appear in the other
+ * parent, also starting at the second cut point.
+ * </p>
+ * 
+ * <p>
+ * Given two permutations<br />
+ * {@code 1 2 3 4 5 6 7 8} and {@code 8 7 6 5 4 3 2 1}<br />
+ * and the cut points {@code 2} and {@code 5}, this results in<br/>
+ * {@code 7 6 3 4 5 2 1 8} and {@code 2 3 6 5 4 7 8 1}.
+ * </p>
+ * 
+ * @author diewald
+ * 
+ */
+public class CrossoverPermutationOrder extends CrossoverPermutationIndexed {
+
+	protected final Random random;
+
+	/**
+	 * Constructs a new {@link CrossoverPermutationOrder}.
+	 * 
+	 * @param random
+	 *            the random number generator
+	 */
+	@Inject
+	public CrossoverPermutationOrder(Rand random) {
+		this.random = random;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverPermutationIndexed#crossover(int[],
+	 * int[], int[])
+	 */
+	@Override
+	protected void crossover(int[] p2, int[] o1, int[] o2) {
+		int size = p2.length;
+		int[] p1 = new int[size];
+		for (int i = 0; i < size; i++) {
+			p1[i] = i;
+		}
+
+		int lo = random.nextInt(size + 1);
+		int hi = random.nextInt(size + 1);
+		if (lo > hi) {
+			int tmp = lo;
+			lo = hi;
+			hi = tmp;
+		}
+
+		order(p1, p2, lo, hi, o1);
+		order(p2, p1, lo, hi, o2);
+	}
+
+	/**
+	 * Performs the order crossover on the encoded permutations.
+	 * 
+	 * @param p1
+	 *            the parent that provides the segment
+	 * @param p2
+	 *            the parent that provides the order of the remaining elements
+	 * @param lo
+	 *            the first cut point (inclusive)
+	 * @param hi
+	 *            the second cut point (exclusive)
+	 * @param offspring
+	 *            the encoded offspring
+	 */
+	protected static void order(int[] p1, int[] p2, int lo, int hi, int[] offspring) {
+		int size = p1.length;
+		boolean[] contained = new boolean[size];
+
+		for (int i = lo; i < hi; i++) {
+			offspring[i] = p1[i];
+			contained[p1[i]] = true;
+		}
+
+		int k = hi % size;
+		for (int i = 0; i < size; i++) {
+			int e = p2[(hi + i) % size];
+			if (!contained[e]) {
+				offspring[k] = e;
+				k = (k + 1) % size;
+			}
+		}
+	}
+}
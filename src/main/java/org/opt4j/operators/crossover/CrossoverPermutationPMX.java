@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.crossover;
+
+import java.util.Random;
+
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.genotype.PermutationGenotype;
+
+import com.google.inject.Inject;
+
+/**
+ * <p>
+ * The partially mapped crossover (PMX) for the {@link PermutationGenotype}.
+ * </p>
+ * 
+ * <p>
+ * Each offspring takes the elements between two random cut points from one
+ * parent. The remaining positions are filled from the other parent where
+ * conflicting elements are replaced by following the mapping that is defined
+ * by the two segments.
+ * </p>
+ * 
+ * <p>
+ * The mapping is followed on position arrays such that the operator runs in
+ * linear time.
+ * </p>
+ * 
+ * @author diewald
+ * 
+ */
+public class CrossoverPermutationPMX extends CrossoverPermutationIndexed {
+
+	protected final Random random;
+
+	/**
+	 * Constructs a new {@link CrossoverPermutationPMX}.
+	 * 
+	 * @param random
+	 *            the random number generator
+	 */
+	@Inject
+	public CrossoverPermutationPMX(Rand random) {
+		this.random = random;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.crossover.CrossoverPermutationIndexed#crossover(int[],
+	 * int[], int[])
+	 */
+	@Override
+	protected void crossover(int[] p2, int[] o1, int[] o2) {
+		int size = p2.length;
+
+		// The first parent is the identity, thus it is its own inverse.
+		int[] positions2 = new int[size];
+		for (int i = 0; i < size; i++) {
+			positions2[p2[i]] = i;
+		}
+
+		int lo = random.nextInt(size + 1);
+		int hi = random.nextInt(size + 1);
+		if (lo > hi) {
+			int tmp = lo;
+			lo = hi;
+			hi = tmp;
+		}
+
+		for (int i = lo; i < hi; i++) {
+			o1[i] = i;
+			o2[i] = p2[i];
+		}
+
+		for (int i = 0; i < size; i++) {
+			if (i >= lo && i < hi) {
+				continue;
+			}
+
+			int e1 = p2[i];
+			while (e1 >= lo && e1 < hi) {
+				e1 = p2[e1];
+			}
+			o1[i] = e1;
+
+			int e2 = i;
+			int pos;
+			while ((pos = positions2[e2]) >= lo && pos < hi) {
+				e2 = pos;
+			}
+			o2[i] = e2;
+		}
+	}
+}
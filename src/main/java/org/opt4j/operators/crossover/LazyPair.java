@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.crossover;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@link LazyPair} is a {@link Pair} whose second element is created on
+ * demand. Crossover operators return a {@link LazyPair} from
+ * {@link Crossover#crossoverLazy(org.opt4j.core.Genotype, org.opt4j.core.Genotype)}
+ * if the second
+ * offspring can be materialized from a retained recipe (the crossover points
+ * or the already drawn random numbers) such that algorithms that only use the
+ * first offspring do not pay for the second one.
+ * <p>
+ * The second element is created at most once; subsequent calls of
+ * {@link #getSecond()} return the same object. Since the recipe may refer to
+ * the parents, the parents must not be modified before the second element is
+ * requested.
+ * 
+ * @author diewald
+ * @param <A>
+ *            the type of the paired objects
+ */
+public class LazyPair<A> extends Pair<A> {
+
+	protected Supplier<? extends A> supplier;
+
+	protected volatile A lazySecond;
+
+	/**
+	 * Constructs a {@link LazyPair} with a first element and a
+	 * {@link Supplier} for the second element.
+	 * 
+	 * @param first
+	 *            the first object
+	 * @param supplier
+	 *            the supplier of the second object
+	 */
+	public LazyPair(A first, Supplier<? extends A> supplier) {
+		super(first, null);
+		this.supplier = supplier;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.operators.crossover.Pair#getSecond()
+	 */
+	@Override
+	public A getSecond() {
+		A value = lazySecond;
+		if (value == null) {
+			synchronized (this) {
+				value = lazySecond;
+				if (value == null) {
+					value = supplier.get();
+					lazySecond = value;
+					// Release the recipe and the parents.
+					supplier = null;
+				}
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Returns {@code true} if the second element has already been created.
+	 * 
+	 * @return {@code true} if the second element has been created
+	 */
+	public boolean isMaterialized() {
+		return lazySecond != null;
+	}
+
+	/**
+	 * Creates the second element of the given {@link Pair} if it is a
+	 * {@link LazyPair} such that it no longer depends on the parents.
+	 * 
+	 * @param <A>
+	 *            the type of the paired objects
+	 * @param pair
+	 *            the pair
+	 * @return the given pair
+	 */
+	public static <A> Pair<A> materialize(Pair<A> pair) {
+		if (pair instanceof LazyPair) {
+			pair.getSecond();
+		}
+		return pair;
+	}
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.crossover;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link PermutationIndex} encodes permutations as {@code int[]} arrays of
+ * positions in a reference permutation. The permutation crossover operators
+ * work on this encoding such that the membership of elements can be tracked
+ * with {@code boolean[]} arrays instead of hash sets.
+ * <p>
+ * If the reference consists of the {@link Integer}s {@code 0..n-1} (in any
+ * order), the encoding does not hash at all. Otherwise, the positions are
+ * looked up in a single {@link HashMap}.
+ * 
+ * @author diewald
+ * 
+ */
+public class PermutationIndex {
+
+	protected final Object[] elements;
+
+	protected final int[] positions;
+
+	protected final Map<Object, Integer> map;
+
+	/**
+	 * Constructs a {@link PermutationIndex} for the given reference
+	 * permutation.
+	 * 
+	 * @param reference
+	 *            the reference permutation
+	 */
+	public PermutationIndex(List<?> reference) {
+		this.elements = reference.toArray();
+		int size = elements.length;
+
+		int[] positions = new int[size];
+		Arrays.fill(positions, -1);
+		for (int i = 0; i < size && positions != null; i++) {
+			Object e = elements[i];
+			if (e instanceof Integer) {
+				int value = (Integer) e;
+				if (value >= 0 && value < size && positions[value] < 0) {
+					positions[value] = i;
+					continue;
+				}
+			}
+			positions = null;
+		}
+
+		if (positions != null) {
+			this.positions = positions;
+			this.map = null;
+		} else {
+			this.positions = null;
+			this.map = new HashMap<Object, Integer>(size * 2);
+			for (int i = 0; i < size; i++) {
+				map.put(elements[i], i);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of elements.
+	 * 
+	 * @return the number of elements
+	 */
+	public int size() {
+		return elements.length;
+	}
+
+	/**
+	 * Returns the position of the element in the reference permutation.
+	 * 
+	 * @param element
+	 *            the element
+	 * @return the position
+	 */
+	public int indexOf(Object element) {
+		if (positions != null) {
+			if (element instanceof Integer) {
+				int value = (Integer) element;
+				if (value >= 0 && value < positions.length) {
+					return positions[value];
+				}
+			}
+			throw new IllegalArgumentException("Permutation is undefined for different domains.");
+		}
+		Integer index = map.get(element);
+		if (index == null) {
+			throw new IllegalArgumentException("Permutation is undefined for different domains.");
+		}
+		return index;
+	}
+
+	/**
+	 * Encodes a permutation of the same elements as the positions in the
+	 * reference permutation.
+	 * 
+	 * @param permutation
+	 *            the permutation
+	 * @return the encoded permutation
+	 */
+	public int[] encode(List<?> permutation) {
+		int size = permutation.size();
+		int[] encoded = new int[size];
+		for (int i = 0; i < size; i++) {
+			encoded[i] = indexOf(permutation.get(i));
+		}
+		return encoded;
+	}
+
+	/**
+	 * Returns the identity encoding of the reference permutation.
+	 * 
+	 * @return the encoded reference permutation
+	 */
+	public int[] identity() {
+		int[] encoded = new int[elements.length];
+		for (int i = 0; i < encoded.length; i++) {
+			encoded[i] = i;
+		}
+		return encoded;
+	}
+
+	/**
+	 * Decodes an encoded permutation and appends its elements to the given
+	 * list.
+	 * 
+	 * @param encoded
+	 *            the encoded permutation
+	 * @param length
+	 *            the number of positions to decode
+	 * @param list
+	 *            the list
+	 */
+	public void decode(int[] encoded, int length, List<Object> list) {
+		Object[] decoded = new Object[length];
+		for (int i = 0; i < length; i++) {
+			decoded[i] = elements[encoded[i]];
+		}
+		list.addAll(Arrays.asList(decoded));
+	}
+}
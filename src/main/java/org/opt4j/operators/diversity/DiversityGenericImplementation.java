@@ -23,6 +23,8 @@
 
 package org.opt4j.operators.diversity;
 
+import java.util.Map.Entry;
+
 import org.opt4j.core.Genotype;
 import org.opt4j.core.genotype.CompositeGenotype;
 import org.opt4j.operators.AbstractGenericOperator;
@@ -59,24 +61,48 @@ public class DiversityGenericImplementation extends AbstractGenericOperator<Dive
 	 */
 	@Override
 	public double diversity(Genotype a, Genotype b) {
-		Diversity<Genotype> diversity = getOperator(a);
+		return diversity(getDispatch(a), a, b);
+	}
 
-		if (diversity == null) {
+	/**
+	 * Calculates the diversity with the given {@link OperatorDispatch}.
+	 * 
+	 * @param dispatch
+	 *            the dispatch of the first genotype or {@code null} for a
+	 *            {@link CompositeGenotype}
+	 * @param a
+	 *            the first genotype
+	 * @param b
+	 *            the second genotype
+	 * @return the diversity
+	 */
+	protected double diversity(OperatorDispatch<Diversity<Genotype>> dispatch, Genotype a, Genotype b) {
+		if (dispatch == null) {
 			return diversityComposite((CompositeGenotype<?, ?>) a, (CompositeGenotype<?, ?>) b);
 		} else {
-			return diversity.diversity(a, b);
+			Diversity<Genotype> diversity = getOperator(dispatch, a);
+			Timer timer = startTimer();
+			double value = diversity.diversity(a, b);
+			if (timer != null) {
+				timer.stop(a, diversity);
+			}
+			return value;
 		}
 	}
 
 	protected double diversityComposite(CompositeGenotype<?, ?> a, CompositeGenotype<?, ?> b) {
 
 		double diversity = 0;
-		for (Object key : a.keySet()) {
-			Genotype childA = a.get(key);
-			Genotype childB = b.get(key);
+		CompositePlan<Diversity<Genotype>> plan = getPlan(a);
+		CompositeCursor childrenB = new CompositeCursor(b);
+
+		int i = 0;
+		for (Entry<?, ? extends Genotype> entry : a) {
+			Genotype childA = entry.getValue();
+			Genotype childB = childrenB.next(entry.getKey());
 			int size = childA.size();
 
-			diversity += diversity(childA, childB) * size;
+			diversity += diversity(getDispatch(plan, i++, childA), childA, childB) * size;
 		}
 		return diversity / a.size();
 
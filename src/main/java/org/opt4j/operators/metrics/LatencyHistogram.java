@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The {@link LatencyHistogram} counts non-negative values in logarithmic
+ * buckets with eight linear sub-buckets each (similar to an HdrHistogram with
+ * a relative precision of 12.5%). Recording is lock-free and does not
+ * allocate.
+ * 
+ * @author diewald
+ * 
+ */
+public class LatencyHistogram {
+
+	protected static final int SUB_BITS = 3;
+
+	protected static final int SUB_COUNT = 1 << SUB_BITS;
+
+	protected final AtomicLongArray counts = new AtomicLongArray(index(Long.MAX_VALUE) + 1);
+
+	protected final AtomicLong count = new AtomicLong();
+
+	protected final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records a value.
+	 * 
+	 * @param value
+	 *            the value (negative values are recorded as {@code 0})
+	 */
+	public void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		counts.incrementAndGet(index(value));
+		count.incrementAndGet();
+
+		long current;
+		while (value > (current = max.get())) {
+			if (max.compareAndSet(current, value)) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 * 
+	 * @return the number of recorded values
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Returns the maximal recorded value.
+	 * 
+	 * @return the maximal value
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Returns the (lower bound of the bucket of the) value at the given
+	 * percentile.
+	 * 
+	 * @param percentile
+	 *            the percentile in [0,100]
+	 * @return the value at the percentile
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long total = count.get();
+		if (total == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+		long sum = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			sum += counts.get(i);
+			if (sum >= target) {
+				return Math.min(value(i), max.get());
+			}
+		}
+		return max.get();
+	}
+
+	/**
+	 * Returns the bucket index of a value.
+	 * 
+	 * @param value
+	 *            the value
+	 * @return the bucket index
+	 */
+	protected static int index(long value) {
+		if (value < SUB_COUNT) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+		return (exponent - SUB_BITS + 1) * SUB_COUNT + sub;
+	}
+
+	/**
+	 * Returns the lower bound of the values of a bucket.
+	 * 
+	 * @param index
+	 *            the bucket index
+	 * @return the lowest value of the bucket
+	 */
+	protected static long value(int index) {
+		if (index < SUB_COUNT) {
+			return index;
+		}
+		int exponent = index / SUB_COUNT + SUB_BITS - 1;
+		long sub = index % SUB_COUNT;
+		return (SUB_COUNT + sub) << (exponent - SUB_BITS);
+	}
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.metrics;
+
+import java.util.List;
+
+import org.opt4j.core.Genotype;
+import org.opt4j.core.optimizer.Operator;
+
+/**
+ * The {@link OperatorMetrics} record the invocations of the {@link Operator}s
+ * that are dispatched by the generic operator implementations. The metrics are
+ * opt-in: they are only recorded if an implementation is bound, e.g., by the
+ * {@link OperatorMetricsModule}.
+ * 
+ * @author diewald
+ * 
+ */
+public interface OperatorMetrics {
+
+	/**
+	 * Returns the number of bytes allocated by the current thread so far or
+	 * {@code 0} if the JVM does not support the measurement.
+	 * 
+	 * @return the allocated bytes of the current thread
+	 */
+	long allocatedBytes();
+
+	/**
+	 * Records a single invocation of an {@link Operator}.
+	 * 
+	 * @param genotype
+	 *            the class of the {@link Genotype}
+	 * @param operator
+	 *            the class of the {@link Operator}
+	 * @param genes
+	 *            the number of processed genes
+	 * @param nanos
+	 *            the latency in nanoseconds
+	 * @param bytes
+	 *            the allocated bytes
+	 */
+	void record(Class<? extends Genotype> genotype, Class<?> operator, int genes, long nanos, long bytes);
+
+	/**
+	 * Returns a snapshot of the statistics per {@link Genotype} class and
+	 * {@link Operator} class.
+	 * 
+	 * @return the statistics
+	 */
+	List<OperatorStatistics> getStatistics();
+
+	/**
+	 * Resets all statistics.
+	 */
+	void reset();
+}
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.opt4j.core.Genotype;
+import org.opt4j.core.start.Constant;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * The {@link OperatorMetricsCollector} is the default implementation of the
+ * {@link OperatorMetrics}. The counters are kept per genotype class and
+ * operator class and are updated without locks. The allocated bytes are
+ * measured with the {@code com.sun.management.ThreadMXBean} if available.
+ * Optionally, the collector registers itself as {@link OperatorMetricsMXBean}
+ * under {@link #OBJECT_NAME}.
+ * 
+ * @author diewald
+ * 
+ */
+@Singleton
+public class OperatorMetricsCollector implements OperatorMetrics, OperatorMetricsMXBean {
+
+	/**
+	 * The JMX object name of the collector.
+	 */
+	public static final String OBJECT_NAME = "org.opt4j.operators:type=OperatorMetrics";
+
+	/**
+	 * The counters of one operator class for one genotype class.
+	 */
+	protected static class Counters {
+
+		protected final LongAdder invocations = new LongAdder();
+
+		protected final LongAdder genes = new LongAdder();
+
+		protected final LongAdder bytes = new LongAdder();
+
+		protected final LongAdder nanos = new LongAdder();
+
+		protected final LatencyHistogram latency = new LatencyHistogram();
+	}
+
+	protected final com.sun.management.ThreadMXBean threads;
+
+	protected volatile ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Counters>> counters = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs the {@link OperatorMetricsCollector}.
+	 * 
+	 * @param jmx
+	 *            {@code true} if the collector is registered for JMX
+	 */
+	@Inject
+	public OperatorMetricsCollector(@Constant(value = "jmx", namespace = OperatorMetrics.class) boolean jmx) {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		com.sun.management.ThreadMXBean allocation = null;
+		try {
+			if (bean instanceof com.sun.management.ThreadMXBean
+					&& ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+				allocation = (com.sun.management.ThreadMXBean) bean;
+				allocation.setThreadAllocatedMemoryEnabled(true);
+			}
+		} catch (LinkageError e) {
+			// The optional com.sun.management package is not available.
+		}
+		threads = allocation;
+
+		if (jmx) {
+			register();
+		}
+	}
+
+	/**
+	 * Registers the collector at the platform {@link MBeanServer}. A
+	 * previously registered collector is replaced.
+	 */
+	protected void register() {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+			server.registerMBean(this, name);
+		} catch (JMException e) {
+			throw new IllegalStateException("Unable to register the operator metrics for JMX.", e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.operators.metrics.OperatorMetrics#allocatedBytes()
+	 */
+	@Override
+	public long allocatedBytes() {
+		if (threads == null) {
+			return 0;
+		}
+		return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.operators.metrics.OperatorMetrics#record(java.lang.Class,
+	 * java.lang.Class, int, long, long)
+	 */
+	@Override
+	public void record(Class<? extends Genotype> genotype, Class<?> operator, int genes, long nanos, long bytes) {
+		Counters c = getCounters(genotype, operator);
+		c.invocations.increment();
+		c.genes.add(genes);
+		c.bytes.add(bytes);
+		c.nanos.add(nanos);
+		c.latency.record(nanos);
+	}
+
+	protected Counters getCounters(Class<?> genotype, Class<?> operator) {
+		ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Counters>> counters = this.counters;
+
+		ConcurrentMap<Class<?>, Counters> byOperator = counters.get(genotype);
+		if (byOperator == null) {
+			byOperator = counters.computeIfAbsent(genotype, k -> new ConcurrentHashMap<>());
+		}
+		Counters c = byOperator.get(operator);
+		if (c == null) {
+			c = byOperator.computeIfAbsent(operator, k -> new Counters());
+		}
+		return c;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.operators.metrics.OperatorMetrics#getStatistics()
+	 */
+	@Override
+	public List<OperatorStatistics> getStatistics() {
+		List<OperatorStatistics> statistics = new ArrayList<OperatorStatistics>();
+		for (Entry<Class<?>, ConcurrentMap<Class<?>, Counters>> genotype : counters.entrySet()) {
+			for (Entry<Class<?>, Counters> operator : genotype.getValue().entrySet()) {
+				Counters c = operator.getValue();
+				statistics.add(new OperatorStatistics(genotype.getKey().getName(), operator.getKey().getName(),
+						c.invocations.sum(), c.genes.sum(), c.bytes.sum(), c.nanos.sum(),
+						c.latency.getValueAtPercentile(50), c.latency.getValueAtPercentile(99), c.latency.getMax()));
+			}
+		}
+		return statistics;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.operators.metrics.OperatorMetrics#reset()
+	 */
+	@Override
+	public void reset() {
+		counters = new ConcurrentHashMap<>();
+	}
+}
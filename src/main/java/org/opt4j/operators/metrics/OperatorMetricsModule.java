@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.metrics;
+
+import org.opt4j.core.config.Icons;
+import org.opt4j.core.config.annotations.Icon;
+import org.opt4j.core.config.annotations.Info;
+import org.opt4j.core.config.annotations.Parent;
+import org.opt4j.core.optimizer.OptimizerModule;
+import org.opt4j.core.start.Constant;
+import org.opt4j.core.start.Opt4JModule;
+
+/**
+ * The {@link OperatorMetricsModule} enables the {@link OperatorMetrics} for
+ * all generic operators by binding the {@link OperatorMetricsCollector}.
+ * Without this module, no metrics are recorded.
+ * 
+ * @author diewald
+ * 
+ */
+@Icon(Icons.OPERATOR)
+@Parent(OptimizerModule.class)
+@Info("Records invocation counts, genes, latencies and allocations per operator.")
+public class OperatorMetricsModule extends Opt4JModule {
+
+	@Info("Register the metrics as MXBean for JMX.")
+	@Constant(value = "jmx", namespace = OperatorMetrics.class)
+	protected boolean jmx = true;
+
+	/**
+	 * Returns {@code true} if the metrics are registered for JMX.
+	 * 
+	 * @return {@code true} if the metrics are registered for JMX
+	 */
+	public boolean isJmx() {
+		return jmx;
+	}
+
+	/**
+	 * Sets whether the metrics are registered for JMX.
+	 * 
+	 * @param jmx
+	 *            {@code true} if the metrics are registered for JMX
+	 */
+	public void setJmx(boolean jmx) {
+		this.jmx = jmx;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.start.Opt4JModule#config()
+	 */
+	@Override
+	public void config() {
+		bind(OperatorMetrics.class).to(OperatorMetricsCollector.class).in(SINGLETON);
+	}
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * The {@link OperatorStatistics} is an immutable snapshot of the metrics of
+ * one operator class for one genotype class. Latencies are given in
+ * nanoseconds.
+ * 
+ * @author diewald
+ * 
+ */
+public class OperatorStatistics {
+
+	protected final String genotype;
+
+	protected final String operator;
+
+	protected final long invocations;
+
+	protected final long genes;
+
+	protected final long allocatedBytes;
+
+	protected final long totalLatency;
+
+	protected final long medianLatency;
+
+	protected final long p99Latency;
+
+	protected final long maxLatency;
+
+	/**
+	 * Constructs the {@link OperatorStatistics}.
+	 * 
+	 * @param genotype
+	 *            the name of the genotype class
+	 * @param operator
+	 *            the name of the operator class
+	 * @param invocations
+	 *            the number of invocations
+	 * @param genes
+	 *            the number of processed genes
+	 * @param allocatedBytes
+	 *            the allocated bytes
+	 * @param totalLatency
+	 *            the sum of all latencies
+	 * @param medianLatency
+	 *            the median latency
+	 * @param p99Latency
+	 *            the 99th percentile of the latency
+	 * @param maxLatency
+	 *            the maximal latency
+	 */
+	@ConstructorProperties({ "genotype", "operator", "invocations", "genes", "allocatedBytes", "totalLatency",
+			"medianLatency", "p99Latency", "maxLatency" })
+	public OperatorStatistics(String genotype, String operator, long invocations, long genes, long allocatedBytes,
+			long totalLatency, long medianLatency, long p99Latency, long maxLatency) {
+		this.genotype = genotype;
+		this.operator = operator;
+		this.invocations = invocations;
+		this.genes = genes;
+		this.allocatedBytes = allocatedBytes;
+		this.totalLatency = totalLatency;
+		this.medianLatency = medianLatency;
+		this.p99Latency = p99Latency;
+		this.maxLatency = maxLatency;
+	}
+
+	public String getGenotype() {
+		return genotype;
+	}
+
+	public String getOperator() {
+		return operator;
+	}
+
+	public long getInvocations() {
+		return invocations;
+	}
+
+	public long getGenes() {
+		return genes;
+	}
+
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	public long getTotalLatency() {
+		return totalLatency;
+	}
+
+	public long getMedianLatency() {
+		return medianLatency;
+	}
+
+	public long getP99Latency() {
+		return p99Latency;
+	}
+
+	public long getMaxLatency() {
+		return maxLatency;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return operator + "[" + genotype + "] invocations=" + invocations + " genes=" + genes + " bytes="
+				+ allocatedBytes + " total=" + totalLatency + "ns p50=" + medianLatency + "ns p99=" + p99Latency
+				+ "ns max=" + maxLatency + "ns";
+	}
+}
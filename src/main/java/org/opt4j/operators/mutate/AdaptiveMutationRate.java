@@ -25,6 +25,8 @@ package org.opt4j.operators.mutate;
 
 import static org.opt4j.core.Individual.State.EMPTY;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.opt4j.core.Individual;
 import org.opt4j.core.IndividualFactory;
 import org.opt4j.core.IndividualStateListener;
@@ -35,6 +37,9 @@ import com.google.inject.Singleton;
 /**
  * Self adaptive {@link MutationRate} that uses the size of the genotype (
  * {@code size}) to estimate a rate. The calculated rate is 1/{@code size}.
+ * <p>
+ * The rate is initialized once by the first individual that is not empty
+ * without locking and is safely published to all threads.
  * 
  * @author lukasiewycz
  * 
@@ -42,9 +47,11 @@ import com.google.inject.Singleton;
 @Singleton
 public class AdaptiveMutationRate implements MutationRate, IndividualStateListener {
 
-	protected boolean isInit = false;
+	protected volatile boolean isInit = false;
+
+	protected volatile double rate = 0;
 
-	protected double rate = 0;
+	private final AtomicBoolean initializing = new AtomicBoolean(false);
 
 	protected final IndividualFactory individualFactory;
 
@@ -95,14 +102,25 @@ public class AdaptiveMutationRate implements MutationRate, IndividualStateListen
 	 * .core.Individual)
 	 */
 	@Override
-	public synchronized void inidividualStateChanged(Individual individual) {
-		if (!isInit && individual.getState() != EMPTY) {
+	public void inidividualStateChanged(Individual individual) {
+		if (!isInit && individual.getState() != EMPTY && initializing.compareAndSet(false, true)) {
 			final int size = individual.getGenotype().size();
 			if (size > 0) {
-				set(1.0 / individual.getGenotype().size());
+				initialize(size);
 			}
 			individualFactory.removeIndividualStateListener(this);
 			isInit = true;
 		}
 	}
+
+	/**
+	 * Initializes the rate for the given size of the genotype. This method is
+	 * called exactly once.
+	 * 
+	 * @param size
+	 *            the size of the genotype
+	 */
+	protected void initialize(int size) {
+		set(1.0 / size);
+	}
 }
@@ -258,6 +258,7 @@ public class BasicMutateModule extends MutateModule {
 			break;
 		case CONSTANT:
 			bind(MutationRate.class).to(ConstantMutationRate.class).in(SINGLETON);
+			break;
 		}
 
 		Class<? extends MutatePermutation> permutation = MutatePermutationMixed.class;
@@ -23,6 +23,8 @@
 
 package org.opt4j.operators.mutate;
 
+import java.util.List;
+
 import org.opt4j.core.Genotype;
 import org.opt4j.core.optimizer.Operator;
 
@@ -48,6 +50,40 @@ public interface Mutate<G extends Genotype> extends Operator<G> {
 	 *            the mutation rate
 	 */
 	public void mutate(G genotype, double p);
+
+	/**
+	 * Performs a mutation for a {@link Genotype} and returns whether the
+	 * genotype has changed. If the genotype is unchanged, the mutated copy is
+	 * equal to its origin such that, for instance, the objectives of the
+	 * origin can be reused instead of evaluating the copy again.
+	 * <p>
+	 * The default implementation performs the mutation and conservatively
+	 * returns {@code true}.
+	 * 
+	 * @param genotype
+	 *            the genotype to be mutated
+	 * @param p
+	 *            the mutation rate
+	 * @return {@code true} if the genotype has changed
+	 */
+	default boolean mutateChanged(G genotype, double p) {
+		mutate(genotype, p);
+		return true;
+	}
+
+	/**
+	 * Performs a mutation for each of the given {@link Genotype}s.
+	 * 
+	 * @param genotypes
+	 *            the genotypes to be mutated
+	 * @param p
+	 *            the mutation rate
+	 */
+	default void mutateAll(List<? extends G> genotypes, double p) {
+		for (G genotype : genotypes) {
+			mutate(genotype, p);
+		}
+	}
 	
 	/* (non-Javadoc)
 	 * @see org.opt4j.core.optimizer.Operator#getOperatorType()
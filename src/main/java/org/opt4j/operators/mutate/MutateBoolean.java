@@ -27,17 +27,31 @@ import java.util.Random;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.operators.Overrides;
+import org.opt4j.operators.PackedBooleans;
+import org.opt4j.operators.SkipSampling;
 
 import com.google.inject.Inject;
 
 /**
  * Mutate for the {@link BooleanGenotype}.
+ * <p>
+ * For sparse mutations, the mutated positions are drawn directly (see
+ * {@link SkipSampling}). For dense mutations, the flips are generated 64 at a
+ * time as a packed mask (see {@link PackedBooleans#bernoulli}) and written
+ * back to the genotype at the flipped positions.
  * 
  * @author lukasiewycz
  * 
  */
 public class MutateBoolean implements Mutate<BooleanGenotype> {
 
+	/**
+	 * The subclasses that override {@link #mutate(BooleanGenotype, double)}.
+	 */
+	protected static final ClassValue<Boolean> MUTATE_OVERRIDDEN = Overrides.of(MutateBoolean.class, "mutate",
+			BooleanGenotype.class, double.class);
+
 	protected final Random random;
 
 	/**
@@ -60,14 +74,55 @@ public class MutateBoolean implements Mutate<BooleanGenotype> {
 	 */
 	@Override
 	public void mutate(BooleanGenotype genotype, double p) {
+		doMutate(genotype, p);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.mutate.Mutate#mutateChanged(org.opt4j.core.Genotype,
+	 * double)
+	 */
+	@Override
+	public boolean mutateChanged(BooleanGenotype genotype, double p) {
+		if (MUTATE_OVERRIDDEN.get(getClass())) {
+			mutate(genotype, p);
+			return true;
+		}
+		return doMutate(genotype, p);
+	}
+
+	/**
+	 * Performs the mutation for {@link #mutate(BooleanGenotype, double)} and
+	 * returns whether the genotype has changed.
+	 * 
+	 * @param genotype
+	 *            the genotype to be mutated
+	 * @param p
+	 *            the mutation rate
+	 * @return {@code true} if the genotype has changed
+	 */
+	protected boolean doMutate(BooleanGenotype genotype, double p) {
 		int size = genotype.size();
 
-		for (int i = 0; i < size; i++) {
-			if (random.nextDouble() < p) {
-				genotype.set(i, !genotype.get(i));
-			}
+		// A mask word costs up to eight random words (less for p with few
+		// binary digits), skip sampling about one random number per flip.
+		if (p > 0 && 64 * p >= Math.min(PackedBooleans.digits(p), 8)) {
+			long[] mask = new long[PackedBooleans.words(size)];
+			PackedBooleans.bernoulli(random, p, mask);
+			return PackedBooleans.flip(mask, genotype);
+		}
+
+		boolean changed = false;
+
+		// The mutated positions are drawn directly (see SkipSampling).
+		for (int i = SkipSampling.next(random, p, 0); i < size; i = SkipSampling.next(random, p, i + 1)) {
+			genotype.set(i, !genotype.get(i));
+			changed = true;
 		}
 
+		return changed;
 	}
 
 }
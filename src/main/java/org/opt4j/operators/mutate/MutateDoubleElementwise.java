@@ -25,16 +25,60 @@ package org.opt4j.operators.mutate;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.DoubleGenotype;
+import org.opt4j.operators.Overrides;
+import org.opt4j.operators.SkipSampling;
 import org.opt4j.operators.normalize.NormalizeDouble;
 
 /**
  * The {@link MutateDoubleElementwise}.
+ * <p>
+ * If a subclass implements {@link #mutateElement(double, double, double)},
+ * the mutated elements are drawn directly with the mutation rate (see
+ * {@link SkipSampling}) and mutated with this method. Otherwise, or if a
+ * further subclass overrides
+ * {@link #mutateElement(double, double, double, double)} again,
+ * {@link #mutateElement(double, double, double, double)} is called for each
+ * element.
  * 
  * @author lukasiewycz
  * 
  */
 public abstract class MutateDoubleElementwise extends MutateDouble {
 
+	/**
+	 * The subclasses that implement
+	 * {@link #mutateElement(double, double, double)} for the selected
+	 * elements, i.e., the most specific of the two element hooks.
+	 */
+	protected static final ClassValue<Boolean> SELECTED = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			for (Class<?> c = type; c != null && c != MutateDoubleElementwise.class; c = c.getSuperclass()) {
+				if (Overrides.isOverridden(c, c.getSuperclass(), "mutateElement", double.class, double.class,
+						double.class)) {
+					return true;
+				} else if (Overrides.isOverridden(c, c.getSuperclass(), "mutateElement", double.class,
+						double.class, double.class, double.class)) {
+					return false;
+				}
+			}
+			return false;
+		}
+	};
+
+	/**
+	 * The subclasses that override {@link #mutate(DoubleGenotype, double)} or
+	 * {@link #mutateList(DoubleGenotype, double)}.
+	 */
+	protected static final ClassValue<Boolean> MUTATE_OVERRIDDEN = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return Overrides.isOverridden(type, MutateDouble.class, "mutate", DoubleGenotype.class, double.class)
+					|| Overrides.isOverridden(type, MutateDoubleElementwise.class, "mutateList", DoubleGenotype.class,
+							double.class);
+		}
+	};
+
 	/**
 	 * Constructs a {@link MutateDoubleElementwise}.
 	 * 
@@ -47,6 +91,24 @@ public abstract class MutateDoubleElementwise extends MutateDouble {
 		super(random, normalize);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.mutate.Mutate#mutateChanged(org.opt4j.core.Genotype,
+	 * double)
+	 */
+	@Override
+	public boolean mutateChanged(DoubleGenotype genotype, double p) {
+		if (MUTATE_OVERRIDDEN.get(getClass())) {
+			mutate(genotype, p);
+			return true;
+		}
+		boolean changed = doMutate(genotype, p);
+		boolean normalized = normalize.normalizeChanged(genotype);
+		return changed || normalized;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -56,18 +118,74 @@ public abstract class MutateDoubleElementwise extends MutateDouble {
 	 */
 	@Override
 	protected void mutateList(DoubleGenotype vector, double p) {
-		for (int i = 0; i < vector.size(); i++) {
-			double x = vector.get(i);
-			double y = mutateElement(x, vector.getLowerBound(i), vector.getUpperBound(i), p);
+		doMutate(vector, p);
+	}
 
-			if (x != y) {
-				vector.set(i, y);
+	/**
+	 * Performs the mutation for {@link #mutateList(DoubleGenotype, double)}
+	 * and returns whether an element has changed.
+	 * 
+	 * @param vector
+	 *            the vector of double values
+	 * @param p
+	 *            the mutation rate
+	 * @return {@code true} if an element has changed
+	 */
+	protected boolean doMutate(DoubleGenotype vector, double p) {
+		boolean changed = false;
+		int size = vector.size();
+		if (SELECTED.get(getClass())) {
+			for (int i = SkipSampling.next(random, p, 0); i < size; i = SkipSampling.next(random, p, i + 1)) {
+				double x = vector.get(i);
+				double y = mutateElement(x, vector.getLowerBound(i), vector.getUpperBound(i));
+
+				if (x != y) {
+					vector.set(i, y);
+					changed = true;
+				}
+			}
+		} else {
+			for (int i = 0; i < size; i++) {
+				double x = vector.get(i);
+				double y = mutateElement(x, vector.getLowerBound(i), vector.getUpperBound(i), p);
+
+				if (x != y) {
+					vector.set(i, y);
+					changed = true;
+				}
 			}
 		}
+		return changed;
+	}
+
+	/**
+	 * Mutates one element of the list that has been selected for the
+	 * mutation. If a subclass overrides this method, it is called only for the
+	 * selected elements instead of calling
+	 * {@link #mutateElement(double, double, double, double)} for each element,
+	 * unless a further subclass overrides the latter.
+	 * The default implementation calls
+	 * {@link #mutateElement(double, double, double, double)} with the mutation
+	 * rate {@code 1}.
+	 * 
+	 * @param element
+	 *            the element
+	 * @param lb
+	 *            the lower bound
+	 * @param ub
+	 *            the upper bound
+	 * @return the mutated element
+	 */
+	protected double mutateElement(double element, double lb, double ub) {
+		return mutateElement(element, lb, ub, 1.0);
 	}
 
 	/**
-	 * Mutate one element of the list.
+	 * Mutate one element of the list. This method is called for each element
+	 * with the mutation rate, unless the subclass overrides
+	 * {@link #mutateElement(double, double, double)} (and not this method in a
+	 * further subclass). In this case, it is not called by the
+	 * {@link MutateDoubleElementwise}.
 	 * 
 	 * @param element
 	 *            the element
@@ -66,9 +66,21 @@ public class MutateDoubleGauss extends MutateDoubleElementwise {
 	@Override
 	protected double mutateElement(double element, double lb, double ub, double p) {
 		if (random.nextDouble() < p) {
-			element += sigma * random.nextGaussian();
+			element = mutateElement(element, lb, ub);
 		}
 		return element;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.mutate.MutateDoubleElementwise#mutateElement(double,
+	 * double, double)
+	 */
+	@Override
+	protected double mutateElement(double element, double lb, double ub) {
+		return element + sigma * random.nextGaussian();
+	}
+
 }
@@ -67,22 +67,34 @@ public class MutateDoublePolynomial extends MutateDoubleElementwise {
 	@Override
 	protected double mutateElement(double x, double lb, double ub, double p) {
 		if (random.nextDouble() < p) {
-			double u = random.nextDouble();
-			double delta = 0;
-			double diff = ub - lb;
+			return mutateElement(x, lb, ub);
+		}
+		return x;
+	}
 
-			if (u < 0.5) {
-				double m = 1.0 - ((x - lb) / diff);
-				double b = 2 * u + (1 - 2 * u) * (Math.pow(m, (eta + 1)));
-				delta = Math.pow(b, (1.0 / (eta + 1))) - 1.0;
-			} else {
-				double m = 1.0 - ((ub - x) / diff);
-				double b = 2 * (1 - u) + 2 * (u - 0.5) * (Math.pow(m, (eta + 1)));
-				delta = 1.0 - Math.pow(b, (1.0 / (eta + 1)));
-			}
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.mutate.MutateDoubleElementwise#mutateElement(double,
+	 * double, double)
+	 */
+	@Override
+	protected double mutateElement(double x, double lb, double ub) {
+		double u = random.nextDouble();
+		double delta = 0;
+		double diff = ub - lb;
 
-			return x + delta * diff;
+		if (u < 0.5) {
+			double m = 1.0 - ((x - lb) / diff);
+			double b = 2 * u + (1 - 2 * u) * (Math.pow(m, (eta + 1)));
+			delta = Math.pow(b, (1.0 / (eta + 1))) - 1.0;
+		} else {
+			double m = 1.0 - ((ub - x) / diff);
+			double b = 2 * (1 - u) + 2 * (u - 0.5) * (Math.pow(m, (eta + 1)));
+			delta = 1.0 - Math.pow(b, (1.0 / (eta + 1)));
 		}
-		return x;
+
+		return x + delta * diff;
 	}
 }
@@ -23,6 +23,9 @@
 
 package org.opt4j.operators.mutate;
 
+import java.util.List;
+import java.util.Map.Entry;
+
 import org.opt4j.core.Genotype;
 import org.opt4j.core.genotype.CompositeGenotype;
 import org.opt4j.operators.AbstractGenericOperator;
@@ -58,18 +61,89 @@ public class MutateGenericImplementation extends AbstractGenericOperator<Mutate<
 	 */
 	@Override
 	public void mutate(Genotype genotype, double p) {
-		Mutate<Genotype> mutate = getOperator(genotype);
+		mutate(getDispatch(genotype), genotype, p);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.mutate.Mutate#mutateChanged(org.opt4j.core.Genotype,
+	 * double)
+	 */
+	@Override
+	public boolean mutateChanged(Genotype genotype, double p) {
+		return mutate(getDispatch(genotype), genotype, p);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.operators.mutate.Mutate#mutateAll(java.util.List, double)
+	 */
+	@Override
+	public void mutateAll(List<? extends Genotype> genotypes, double p) {
+		// Genotypes of one batch usually share their class: resolve the dispatch once.
+		Class<?> clazz = null;
+		OperatorDispatch<Mutate<Genotype>> dispatch = null;
+
+		for (Genotype genotype : genotypes) {
+			if (genotype.getClass() != clazz) {
+				clazz = genotype.getClass();
+				dispatch = getDispatch(genotype);
+			}
+
+			mutate(dispatch, genotype, p);
+		}
+	}
 
-		if (mutate == null) {
-			mutateComposite((CompositeGenotype<?, ?>) genotype, p);
+	/**
+	 * Performs the mutation with the given {@link OperatorDispatch}.
+	 * 
+	 * @param dispatch
+	 *            the dispatch of the genotype or {@code null} for a
+	 *            {@link CompositeGenotype}
+	 * @param genotype
+	 *            the genotype to be mutated
+	 * @param p
+	 *            the mutation rate
+	 * @return {@code true} if the genotype has changed
+	 */
+	protected boolean mutate(OperatorDispatch<Mutate<Genotype>> dispatch, Genotype genotype, double p) {
+		if (dispatch == null) {
+			return mutateComposite((CompositeGenotype<?, ?>) genotype, p);
 		} else {
-			mutate.mutate(genotype, p);
+			Mutate<Genotype> mutate = getOperator(dispatch, genotype);
+			Timer timer = startTimer();
+			boolean changed = mutate.mutateChanged(genotype, p);
+			if (timer != null) {
+				timer.stop(genotype, mutate);
+			}
+			produced(dispatch, genotype, mutate, genotype);
+			return changed;
 		}
 	}
 
-	protected void mutateComposite(CompositeGenotype<?, ?> genotype, double p) {
-		for (Genotype entry : genotype.values()) {
-			mutate(entry, p);
+	/**
+	 * Performs the mutation for each element of the {@link CompositeGenotype}.
+	 * 
+	 * @param genotype
+	 *            the genotype to be mutated
+	 * @param p
+	 *            the mutation rate
+	 * @return {@code true} if an element has changed
+	 */
+	protected boolean mutateComposite(CompositeGenotype<?, ?> genotype, double p) {
+		CompositePlan<Mutate<Genotype>> plan = getPlan(genotype);
+		boolean changed = false;
+
+		int i = 0;
+		for (Entry<?, ? extends Genotype> entry : genotype) {
+			Genotype child = entry.getValue();
+			if (mutate(getDispatch(plan, i++, child), child, p)) {
+				changed = true;
+			}
 		}
+		return changed;
 	}
 }
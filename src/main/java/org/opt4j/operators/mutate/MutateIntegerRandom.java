@@ -27,6 +27,8 @@ import java.util.Random;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.IntegerGenotype;
+import org.opt4j.operators.Overrides;
+import org.opt4j.operators.SkipSampling;
 
 import com.google.inject.Inject;
 
@@ -40,6 +42,12 @@ import com.google.inject.Inject;
  */
 public class MutateIntegerRandom implements MutateInteger {
 
+	/**
+	 * The subclasses that override {@link #mutate(IntegerGenotype, double)}.
+	 */
+	protected static final ClassValue<Boolean> MUTATE_OVERRIDDEN = Overrides.of(MutateIntegerRandom.class, "mutate",
+			IntegerGenotype.class, double.class);
+
 	protected final Random random;
 
 	/**
@@ -62,16 +70,49 @@ public class MutateIntegerRandom implements MutateInteger {
 	 */
 	@Override
 	public void mutate(IntegerGenotype genotype, double p) {
+		doMutate(genotype, p);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.mutate.Mutate#mutateChanged(org.opt4j.core.Genotype,
+	 * double)
+	 */
+	@Override
+	public boolean mutateChanged(IntegerGenotype genotype, double p) {
+		if (MUTATE_OVERRIDDEN.get(getClass())) {
+			mutate(genotype, p);
+			return true;
+		}
+		return doMutate(genotype, p);
+	}
+
+	/**
+	 * Performs the mutation for {@link #mutate(IntegerGenotype, double)} and
+	 * returns whether the genotype has changed.
+	 * 
+	 * @param genotype
+	 *            the genotype to be mutated
+	 * @param p
+	 *            the mutation rate
+	 * @return {@code true} if the genotype has changed
+	 */
+	protected boolean doMutate(IntegerGenotype genotype, double p) {
+		boolean changed = false;
 
 		int size = genotype.size();
-		for (int i = 0; i < size; i++) {
-			if (random.nextDouble() < p) {
-				int lb = genotype.getLowerBound(i);
-				int ub = genotype.getUpperBound(i);
-				int value = random.nextInt(ub - lb + 1) + lb;
-				genotype.set(i, value);
+		// The mutated positions are drawn directly (see SkipSampling).
+		for (int i = SkipSampling.next(random, p, 0); i < size; i = SkipSampling.next(random, p, i + 1)) {
+			int lb = genotype.getLowerBound(i);
+			int ub = genotype.getUpperBound(i);
+			int value = random.nextInt(ub - lb + 1) + lb;
+			if (genotype.set(i, value) != value) {
+				changed = true;
 			}
 		}
+		return changed;
 	}
 
 }
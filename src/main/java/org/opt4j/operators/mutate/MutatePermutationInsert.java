@@ -27,6 +27,9 @@ import java.util.Random;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.PermutationGenotype;
+import org.opt4j.operators.Overrides;
+import org.opt4j.operators.PermutationSequence;
+import org.opt4j.operators.SkipSampling;
 
 import com.google.inject.Inject;
 
@@ -41,11 +44,23 @@ import com.google.inject.Inject;
  * 6 3 4 5 7 8}.
  * </p>
  * 
+ * <p>
+ * For many moves on a large permutation, the moves are performed on a
+ * {@link PermutationSequence} that is written back once.
+ * </p>
+ * 
  * @author lukasiewycz
  * 
  */
 public class MutatePermutationInsert implements MutatePermutation {
 
+	/**
+	 * The subclasses that override
+	 * {@link #mutate(PermutationGenotype, double)}.
+	 */
+	protected static final ClassValue<Boolean> MUTATE_OVERRIDDEN = Overrides.of(MutatePermutationInsert.class, "mutate",
+			PermutationGenotype.class, double.class);
+
 	protected final Random random;
 
 	/**
@@ -67,21 +82,69 @@ public class MutatePermutationInsert implements MutatePermutation {
 	 * double)
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public void mutate(PermutationGenotype<?> genotype, double p) {
+		doMutate(genotype, p);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.mutate.Mutate#mutateChanged(org.opt4j.core.Genotype,
+	 * double)
+	 */
+	@Override
+	public boolean mutateChanged(PermutationGenotype<?> genotype, double p) {
+		if (MUTATE_OVERRIDDEN.get(getClass())) {
+			mutate(genotype, p);
+			return true;
+		}
+		return doMutate(genotype, p);
+	}
+
+	/**
+	 * Performs the mutation for
+	 * {@link #mutate(PermutationGenotype, double)} and returns whether the
+	 * genotype has changed.
+	 * 
+	 * @param genotype
+	 *            the genotype to be mutated
+	 * @param p
+	 *            the mutation rate
+	 * @return {@code true} if the genotype has changed
+	 */
+	@SuppressWarnings("unchecked")
+	protected boolean doMutate(PermutationGenotype<?> genotype, double p) {
 		PermutationGenotype<Object> permutation = (PermutationGenotype<Object>) genotype;
 		int size = permutation.size();
+		boolean changed = false;
+
+		if (size > 1 && PermutationSequence.isBeneficial(size, p * size)) {
+			PermutationSequence sequence = new PermutationSequence(permutation);
+			for (int i = SkipSampling.next(random, p, 0); i < size; i = SkipSampling.next(random, p, i + 1)) {
+				int j = random.nextInt(size - 1);
 
-		if (size > 1) {
-			for (int i = 0; i < size; i++) {
-				if (random.nextDouble() < p) {
-					Object object = permutation.remove(i);
-					int j = random.nextInt(permutation.size());
+				sequence.move(i, j);
+				if (i != j) {
+					changed = true;
+				}
+			}
+			if (changed) {
+				sequence.copyTo(permutation);
+			}
+		} else if (size > 1) {
+			// The mutated positions are drawn directly (see SkipSampling).
+			for (int i = SkipSampling.next(random, p, 0); i < size; i = SkipSampling.next(random, p, i + 1)) {
+				Object object = permutation.remove(i);
+				int j = random.nextInt(permutation.size());
 
-					permutation.add(j, object);
+				permutation.add(j, object);
+				if (i != j) {
+					changed = true;
 				}
 			}
 		}
+		return changed;
 	}
 
 }
@@ -27,6 +27,7 @@ import java.util.Random;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.PermutationGenotype;
+import org.opt4j.operators.Overrides;
 
 import com.google.inject.Inject;
 
@@ -42,6 +43,13 @@ import com.google.inject.Inject;
  */
 public class MutatePermutationMixed implements MutatePermutation {
 
+	/**
+	 * The subclasses that override
+	 * {@link #mutate(PermutationGenotype, double)}.
+	 */
+	protected static final ClassValue<Boolean> MUTATE_OVERRIDDEN = Overrides.of(MutatePermutationMixed.class, "mutate",
+			PermutationGenotype.class, double.class);
+
 	protected final Random random;
 
 	protected final MutatePermutationSwap swap;
@@ -79,12 +87,43 @@ public class MutatePermutationMixed implements MutatePermutation {
 	 */
 	@Override
 	public void mutate(PermutationGenotype<?> genotype, double p) {
+		doMutate(genotype, p);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.mutate.Mutate#mutateChanged(org.opt4j.core.Genotype,
+	 * double)
+	 */
+	@Override
+	public boolean mutateChanged(PermutationGenotype<?> genotype, double p) {
+		if (MUTATE_OVERRIDDEN.get(getClass())) {
+			mutate(genotype, p);
+			return true;
+		}
+		return doMutate(genotype, p);
+	}
+
+	/**
+	 * Performs the mutation for
+	 * {@link #mutate(PermutationGenotype, double)} and returns whether the
+	 * genotype has changed.
+	 * 
+	 * @param genotype
+	 *            the genotype to be mutated
+	 * @param p
+	 *            the mutation rate
+	 * @return {@code true} if the genotype has changed
+	 */
+	protected boolean doMutate(PermutationGenotype<?> genotype, double p) {
 		if (random.nextDouble() < 0.33) {
-			swap.mutate(genotype, p);
+			return swap.mutateChanged(genotype, p);
 		} else if (random.nextBoolean()) {
-			insert.mutate(genotype, p);
+			return insert.mutateChanged(genotype, p);
 		} else {
-			revert.mutate(genotype, p);
+			return revert.mutateChanged(genotype, p);
 		}
 	}
 
@@ -28,6 +28,9 @@ import java.util.Random;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.PermutationGenotype;
+import org.opt4j.operators.Overrides;
+import org.opt4j.operators.PermutationSequence;
+import org.opt4j.operators.SkipSampling;
 
 import com.google.inject.Inject;
 
@@ -42,11 +45,23 @@ import com.google.inject.Inject;
  * 7 6 5 3 4}.
  * </p>
  * 
+ * <p>
+ * For many reversions on a large permutation, the reversions are performed on
+ * a {@link PermutationSequence} that is written back once.
+ * </p>
+ * 
  * @author lukasiewycz
  * 
  */
 public class MutatePermutationRevert implements MutatePermutation {
 
+	/**
+	 * The subclasses that override
+	 * {@link #mutate(PermutationGenotype, double)}.
+	 */
+	protected static final ClassValue<Boolean> MUTATE_OVERRIDDEN = Overrides.of(MutatePermutationRevert.class, "mutate",
+			PermutationGenotype.class, double.class);
+
 	protected final Random random;
 
 	/**
@@ -69,24 +84,66 @@ public class MutatePermutationRevert implements MutatePermutation {
 	 */
 	@Override
 	public void mutate(PermutationGenotype<?> genotype, double p) {
+		doMutate(genotype, p);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.mutate.Mutate#mutateChanged(org.opt4j.core.Genotype,
+	 * double)
+	 */
+	@Override
+	public boolean mutateChanged(PermutationGenotype<?> genotype, double p) {
+		if (MUTATE_OVERRIDDEN.get(getClass())) {
+			mutate(genotype, p);
+			return true;
+		}
+		return doMutate(genotype, p);
+	}
+
+	/**
+	 * Performs the mutation for
+	 * {@link #mutate(PermutationGenotype, double)} and returns whether the
+	 * genotype has changed.
+	 * 
+	 * @param genotype
+	 *            the genotype to be mutated
+	 * @param p
+	 *            the mutation rate
+	 * @return {@code true} if the genotype has changed
+	 */
+	@SuppressWarnings("unchecked")
+	protected boolean doMutate(PermutationGenotype<?> genotype, double p) {
 		int size = genotype.size();
+		boolean changed = false;
+		PermutationSequence sequence = PermutationSequence.isBeneficial(size, p * size)
+				? new PermutationSequence(genotype) : null;
 
 		if (size > 1) {
-			for (int a = 0; a < size - 1; a++) {
-				if (random.nextDouble() < p) {
-					int b;
-					do {
-						b = a + random.nextInt(size - a);
-					} while (b == a);
+			// The mutated positions are drawn directly (see SkipSampling). As
+			// before, the scan continues behind the center of a reverted
+			// segment.
+			for (int a = SkipSampling.next(random, p, 0); a < size - 1; a = SkipSampling.next(random, p, a + 1)) {
+				int b;
+				do {
+					b = a + random.nextInt(size - a);
+				} while (b == a);
 
-					while (a < b) {
-						Collections.swap(genotype, a, b);
-						a++;
-						b--;
-					}
+				if (sequence != null) {
+					sequence.revert(a, b + 1);
+				} else {
+					Collections.reverse(genotype.subList(a, b + 1));
 				}
+				a += (b - a + 1) / 2;
+				changed = true;
 			}
 		}
+		if (sequence != null && changed) {
+			sequence.copyTo((PermutationGenotype<Object>) genotype);
+		}
+		return changed;
 	}
 
 }
\ No newline at end of file
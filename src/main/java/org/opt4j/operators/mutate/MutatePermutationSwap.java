@@ -28,6 +28,8 @@ import java.util.Random;
 
 import org.opt4j.core.common.random.Rand;
 import org.opt4j.core.genotype.PermutationGenotype;
+import org.opt4j.operators.Overrides;
+import org.opt4j.operators.SkipSampling;
 
 import com.google.inject.Inject;
 
@@ -47,6 +49,13 @@ import com.google.inject.Inject;
  */
 public class MutatePermutationSwap implements MutatePermutation {
 
+	/**
+	 * The subclasses that override
+	 * {@link #mutate(PermutationGenotype, double)}.
+	 */
+	protected static final ClassValue<Boolean> MUTATE_OVERRIDDEN = Overrides.of(MutatePermutationSwap.class, "mutate",
+			PermutationGenotype.class, double.class);
+
 	protected final Random random;
 
 	/**
@@ -69,20 +78,53 @@ public class MutatePermutationSwap implements MutatePermutation {
 	 */
 	@Override
 	public void mutate(PermutationGenotype<?> genotype, double p) {
+		doMutate(genotype, p);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.mutate.Mutate#mutateChanged(org.opt4j.core.Genotype,
+	 * double)
+	 */
+	@Override
+	public boolean mutateChanged(PermutationGenotype<?> genotype, double p) {
+		if (MUTATE_OVERRIDDEN.get(getClass())) {
+			mutate(genotype, p);
+			return true;
+		}
+		return doMutate(genotype, p);
+	}
+
+	/**
+	 * Performs the mutation for
+	 * {@link #mutate(PermutationGenotype, double)} and returns whether the
+	 * genotype has changed.
+	 * 
+	 * @param genotype
+	 *            the genotype to be mutated
+	 * @param p
+	 *            the mutation rate
+	 * @return {@code true} if the genotype has changed
+	 */
+	protected boolean doMutate(PermutationGenotype<?> genotype, double p) {
 		int size = genotype.size();
+		boolean changed = false;
 
 		if (size > 1) {
-			for (int i = 0; i < size; i++) {
-				if (random.nextDouble() < p) {
-					int j;
-					do {
-						j = random.nextInt(size);
-					} while (j == i);
+			// The mutated positions are drawn directly (see SkipSampling).
+			for (int i = SkipSampling.next(random, p, 0); i < size; i = SkipSampling.next(random, p, i + 1)) {
+				int j;
+				do {
+					j = random.nextInt(size);
+				} while (j == i);
 
-					Collections.swap(genotype, i, j);
-				}
+				Collections.swap(genotype, i, j);
+				changed = true;
 			}
 		}
+		return changed;
 	}
 
 }
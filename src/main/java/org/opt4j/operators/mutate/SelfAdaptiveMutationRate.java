@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.mutate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opt4j.core.IndividualFactory;
+import org.opt4j.core.start.Constant;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * Self adaptive {@link MutationRate} that starts with the rate
+ * 1/{@code size} (see {@link AdaptiveMutationRate}) and adapts it online with
+ * the 1/5th success rule: the optimizer reports for each mutation whether it
+ * was successful, e.g., whether the offspring dominates its parent (see
+ * {@link #report(boolean)}). After {@code window} reports, the rate is
+ * multiplied by the {@code factor} if more than 1/5th of the mutations were
+ * successful and divided by it if fewer were successful. The rate is kept
+ * between 1/{@code size}<sup>2</sup> and 1/2.
+ * <p>
+ * The reports are accumulated in {@link LongAdder}s such that many threads
+ * can report concurrently without locking. The reports are summed up only
+ * for every ({@code window}/{@link #CHECKS})-th report, i.e., about
+ * {@link #CHECKS} times per window, and a single reporting thread applies the
+ * update at the end of the window. Thus, the windows end at the same reports
+ * for the same sequence of reports, i.e., a single-threaded run is
+ * reproducible.
+ * <p>
+ * Whether a mutation was successful can only be judged with the evaluated
+ * objectives of the offspring and its parent. Thus, this rate is not
+ * selectable in the {@link BasicMutateModule}: without reports it behaves
+ * like the {@link AdaptiveMutationRate}. An optimizer that calls
+ * {@link #report(boolean)} binds the {@link MutationRate} to this class in
+ * its module and can configure the {@code factor} and the {@code window}
+ * with the respective constants.
+ * 
+ * @author diewald
+ * 
+ */
+@Singleton
+public class SelfAdaptiveMutationRate extends AdaptiveMutationRate {
+
+	/**
+	 * The success ratio that keeps the rate unchanged.
+	 */
+	public static final double SUCCESS_RATIO = 0.2;
+
+	/**
+	 * The number of times the reports are summed up per window.
+	 */
+	public static final int CHECKS = 16;
+
+	protected volatile double factor = 1.22;
+
+	protected volatile int window = 100;
+
+	protected volatile double minimum = 0;
+
+	protected final LongAdder trials = new LongAdder();
+
+	protected final LongAdder successes = new LongAdder();
+
+	private final AtomicInteger reports = new AtomicInteger();
+
+	private final AtomicBoolean updating = new AtomicBoolean(false);
+
+	/**
+	 * Constructs a {@link SelfAdaptiveMutationRate}.
+	 * 
+	 * @param individualFactory
+	 *            the individual creator
+	 */
+	@Inject
+	public SelfAdaptiveMutationRate(IndividualFactory individualFactory) {
+		super(individualFactory);
+	}
+
+	/**
+	 * Sets the factor by which the rate is increased or decreased (default
+	 * 1.22).
+	 * 
+	 * @param factor
+	 *            the factor
+	 */
+	@Inject(optional = true)
+	public void setFactor(@Constant(value = "factor", namespace = SelfAdaptiveMutationRate.class) double factor) {
+		if (factor < 1) {
+			throw new IllegalArgumentException("The factor must be at least 1: " + factor);
+		}
+		this.factor = factor;
+	}
+
+	/**
+	 * Returns the factor by which the rate is increased or decreased.
+	 * 
+	 * @return the factor
+	 */
+	public double getFactor() {
+		return factor;
+	}
+
+	/**
+	 * Sets the number of reported mutations per adaptation (default 100).
+	 * 
+	 * @param window
+	 *            the window
+	 */
+	@Inject(optional = true)
+	public void setWindow(@Constant(value = "window", namespace = SelfAdaptiveMutationRate.class) int window) {
+		if (window < 1) {
+			throw new IllegalArgumentException("The window must be positive: " + window);
+		}
+		this.window = window;
+	}
+
+	/**
+	 * Returns the number of reported mutations per adaptation.
+	 * 
+	 * @return the window
+	 */
+	public int getWindow() {
+		return window;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.mutate.AdaptiveMutationRate#initialize(int)
+	 */
+	@Override
+	protected void initialize(int size) {
+		minimum = Math.min(1.0 / ((double) size * size), 0.5);
+		set(Math.min(1.0 / size, 0.5));
+	}
+
+	/**
+	 * Reports the outcome of a mutation. This method may be called
+	 * concurrently. Reports before the initialization of the rate are ignored.
+	 * 
+	 * @param success
+	 *            {@code true} if the mutation was successful
+	 */
+	public void report(boolean success) {
+		if (!isInit) {
+			return;
+		}
+		if (success) {
+			successes.increment();
+		}
+		trials.increment();
+
+		int window = this.window;
+		// Summing up the cells of the adders is only worthwhile about CHECKS
+		// times per window.
+		if (reports.incrementAndGet() % Math.max(1, window / CHECKS) == 0 && trials.sum() >= window
+				&& updating.compareAndSet(false, true)) {
+			try {
+				// Concurrent reports during the reset are counted for one of
+				// both windows.
+				long n = trials.sumThenReset();
+				long s = successes.sumThenReset();
+				if (n > 0) {
+					adapt((double) s / n);
+				}
+			} finally {
+				updating.set(false);
+			}
+		}
+	}
+
+	/**
+	 * Adapts the rate to the success ratio of the last window.
+	 * 
+	 * @param ratio
+	 *            the ratio of successful mutations
+	 */
+	protected void adapt(double ratio) {
+		double value = get();
+		if (ratio > SUCCESS_RATIO) {
+			value *= factor;
+		} else if (ratio < SUCCESS_RATIO) {
+			value /= factor;
+		}
+		set(Math.max(minimum, Math.min(0.5, value)));
+	}
+
+}
@@ -68,7 +68,11 @@ public class NeighborGenericImplementation extends AbstractGenericOperator<Neigh
 		if (neighbor == null) {
 			neighborComposite((CompositeGenotype<?, ?>) genotype);
 		} else {
+			Timer timer = startTimer();
 			neighbor.neighbor(genotype);
+			if (timer != null) {
+				timer.stop(genotype, neighbor);
+			}
 		}
 	}
 
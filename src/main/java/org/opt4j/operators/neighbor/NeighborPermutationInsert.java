@@ -23,6 +23,7 @@
 
 package org.opt4j.operators.neighbor;
 
+import java.util.Collections;
 import java.util.Random;
 
 import org.opt4j.core.common.random.Rand;
@@ -75,11 +76,15 @@ public class NeighborPermutationInsert implements NeighborPermutation {
 
 		if (size > 1) {
 			final int i = random.nextInt(size);
+			final int j = random.nextInt(size - 1);
 
-			Object object = permutation.remove(i);
-			final int j = random.nextInt(permutation.size());
-
-			permutation.add(j, object);
+			// Equivalent to permutation.add(j, permutation.remove(i)), but only
+			// shifts the elements between both positions.
+			if (i < j) {
+				Collections.rotate(permutation.subList(i, j + 1), -1);
+			} else if (j < i) {
+				Collections.rotate(permutation.subList(j, i + 1), 1);
+			}
 		}
 	}
 
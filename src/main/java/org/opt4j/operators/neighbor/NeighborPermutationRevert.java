@@ -77,11 +77,7 @@ public class NeighborPermutationRevert implements NeighborPermutation {
 				b = a + random.nextInt(size - a);
 			} while (b == a);
 
-			while (a < b) {
-				Collections.swap(genotype, a, b);
-				a++;
-				b--;
-			}
+			Collections.reverse(genotype.subList(a, b + 1));
 		}
 
 	}
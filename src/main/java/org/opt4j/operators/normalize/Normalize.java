@@ -45,6 +45,22 @@ public interface Normalize<G extends Genotype> extends Operator<G> {
 	 *            the genotype to be normalized
 	 */
 	public void normalize(G genotype);
+
+	/**
+	 * Normalizes the {@link Genotype} and returns whether the genotype has
+	 * changed.
+	 * <p>
+	 * The default implementation performs the normalization and
+	 * conservatively returns {@code true}.
+	 * 
+	 * @param genotype
+	 *            the genotype to be normalized
+	 * @return {@code true} if the genotype has changed
+	 */
+	default boolean normalizeChanged(G genotype) {
+		normalize(genotype);
+		return true;
+	}
 	
 	/* (non-Javadoc)
 	 * @see org.opt4j.core.optimizer.Operator#getOperatorType()
@@ -23,6 +23,7 @@
 package org.opt4j.operators.normalize;
 
 import org.opt4j.core.genotype.DoubleGenotype;
+import org.opt4j.operators.Overrides;
 
 /**
  * <p>
@@ -35,6 +36,12 @@ import org.opt4j.core.genotype.DoubleGenotype;
  */
 public abstract class NormalizeDoubleElementwise implements NormalizeDouble {
 
+	/**
+	 * The subclasses that override {@link #normalize(DoubleGenotype)}.
+	 */
+	protected static final ClassValue<Boolean> NORMALIZE_OVERRIDDEN = Overrides.of(NormalizeDoubleElementwise.class,
+			"normalize", DoubleGenotype.class);
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -44,6 +51,35 @@ public abstract class NormalizeDoubleElementwise implements NormalizeDouble {
 	 */
 	@Override
 	public void normalize(DoubleGenotype genotype) {
+		doNormalize(genotype);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.normalize.Normalize#normalizeChanged(org.opt4j.core
+	 * .Genotype)
+	 */
+	@Override
+	public boolean normalizeChanged(DoubleGenotype genotype) {
+		if (NORMALIZE_OVERRIDDEN.get(getClass())) {
+			normalize(genotype);
+			return true;
+		}
+		return doNormalize(genotype);
+	}
+
+	/**
+	 * Performs the normalization for {@link #normalize(DoubleGenotype)} and
+	 * returns whether the genotype has changed.
+	 * 
+	 * @param genotype
+	 *            the genotype to be normalized
+	 * @return {@code true} if the genotype has changed
+	 */
+	protected boolean doNormalize(DoubleGenotype genotype) {
+		boolean changed = false;
 		int size = genotype.size();
 
 		for (int i = 0; i < size; i++) {
@@ -55,9 +91,10 @@ public abstract class NormalizeDoubleElementwise implements NormalizeDouble {
 				value = normalize(value, lb, ub);
 				assert (lb <= value && value <= ub);
 				genotype.set(i, value);
+				changed = true;
 			}
 		}
-
+		return changed;
 	}
 
 	/**
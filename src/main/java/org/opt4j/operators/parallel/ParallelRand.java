@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.parallel;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.opt4j.core.common.random.Rand;
+
+import com.google.common.collect.MapMaker;
+import com.google.inject.Binder;
+import com.google.inject.Binding;
+import com.google.inject.matcher.AbstractMatcher;
+import com.google.inject.matcher.Matcher;
+import com.google.inject.matcher.Matchers;
+import com.google.inject.spi.ConstructorBinding;
+import com.google.inject.spi.ProvisionListener;
+
+/**
+ * The {@link ParallelRand} wraps the bound {@link Rand}: it intercepts the
+ * draws of the {@link Rand} (see {@link ParallelVariationModule}) and forwards
+ * them to the random stream of the current variation task. Outside of tasks,
+ * the draws proceed to the bound {@link Rand} unchanged.
+ * 
+ * <p>
+ * The {@link ParallelVariation} opens one stream per offspring whose seed only
+ * depends on a seed drawn from the bound {@link Rand} for the batch and the
+ * index of the offspring within the batch. The operators thus create the same
+ * offspring for any number of threads.
+ * </p>
+ * 
+ * @author diewald
+ * 
+ */
+public class ParallelRand implements MethodInterceptor {
+
+	/**
+	 * Matches the public methods of {@link Random} that draw random numbers.
+	 */
+	public static final Matcher<Method> DRAWS = new AbstractMatcher<Method>() {
+		@Override
+		public boolean matches(Method method) {
+			if (!Modifier.isPublic(method.getModifiers()) || !method.getName().startsWith("next")) {
+				return false;
+			}
+			try {
+				Random.class.getMethod(method.getName(), method.getParameterTypes());
+				return true;
+			} catch (NoSuchMethodException e) {
+				return false;
+			}
+		}
+	};
+
+	protected final ThreadLocal<Random> stream = new ThreadLocal<Random>();
+
+	/**
+	 * The {@link Rand} instances that Guice has created with this
+	 * {@link ParallelRand} as interceptor (identity, weak keys).
+	 */
+	protected final Set<Random> intercepted = Collections
+			.newSetFromMap(new MapMaker().weakKeys().<Random, Boolean> makeMap());
+
+	/**
+	 * Opens the random stream for a task on the current thread.
+	 * 
+	 * @param seed
+	 *            the seed of the batch
+	 * @param index
+	 *            the index of the task within the batch
+	 */
+	public void begin(long seed, int index) {
+		stream.set(new Random(mix(mix(seed) + index)));
+	}
+
+	/**
+	 * Closes the random stream of the current thread.
+	 */
+	public void end() {
+		stream.remove();
+	}
+
+	/**
+	 * Binds this {@link ParallelRand} as interceptor of the draws of the
+	 * {@link Rand} (see {@link ParallelVariationModule}). Each {@link Rand}
+	 * that Guice constructs with this interceptor is recorded as intercepted.
+	 * 
+	 * @param binder
+	 *            the binder of the module
+	 */
+	protected void install(Binder binder) {
+		binder.bindInterceptor(Matchers.subclassesOf(Rand.class), DRAWS, this);
+		binder.bindListener(new AbstractMatcher<Binding<?>>() {
+			@Override
+			public boolean matches(Binding<?> binding) {
+				return binding instanceof ConstructorBinding
+						&& Rand.class.isAssignableFrom(binding.getKey().getTypeLiteral().getRawType());
+			}
+		}, new ProvisionListener() {
+			@Override
+			public <T> void onProvision(ProvisionInvocation<T> provision) {
+				T random = provision.provision();
+				if (isInterceptor((ConstructorBinding<?>) provision.getBinding())) {
+					intercepted.add((Random) random);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Returns {@code true} if this {@link ParallelRand} intercepts a method of
+	 * the given binding.
+	 * 
+	 * @param binding
+	 *            the constructor binding
+	 * @return {@code true} if this is an interceptor of the binding
+	 */
+	protected boolean isInterceptor(ConstructorBinding<?> binding) {
+		for (List<MethodInterceptor> interceptors : binding.getMethodInterceptors().values()) {
+			if (interceptors.contains(this)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns {@code true} if the draws of the given {@link Random} are
+	 * intercepted, i.e., Guice has created the {@link Random} with this
+	 * {@link ParallelRand} as interceptor (see {@link #install(Binder)}). The
+	 * check does not draw from the given {@link Random}.
+	 * 
+	 * @param random
+	 *            the random number generator
+	 * @return {@code true} if the draws are intercepted
+	 */
+	public boolean intercepts(Random random) {
+		return intercepted.contains(random);
+	}
+
+	/**
+	 * The finalizer of the SplitMix64 generator that spreads consecutive
+	 * values over the whole {@code long} range.
+	 * 
+	 * @param z
+	 *            the value
+	 * @return the mixed value
+	 */
+	protected static long mix(long z) {
+		z += 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept
+	 * .MethodInvocation)
+	 */
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		Random random = stream.get();
+		if (random == null) {
+			return invocation.proceed();
+		}
+
+		Object[] arguments = invocation.getArguments();
+		switch (invocation.getMethod().getName()) {
+		case "nextInt":
+			return arguments.length == 0 ? random.nextInt() : random.nextInt((Integer) arguments[0]);
+		case "nextLong":
+			return random.nextLong();
+		case "nextDouble":
+			return random.nextDouble();
+		case "nextBoolean":
+			return random.nextBoolean();
+		case "nextFloat":
+			return random.nextFloat();
+		case "nextGaussian":
+			return random.nextGaussian();
+		case "nextBytes":
+			random.nextBytes((byte[]) arguments[0]);
+			return null;
+		default:
+			Method method = invocation.getMethod();
+			return Random.class.getMethod(method.getName(), method.getParameterTypes()).invoke(random, arguments);
+		}
+	}
+}
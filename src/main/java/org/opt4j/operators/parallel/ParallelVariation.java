@@ -0,0 +1,301 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.parallel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.opt4j.core.Genotype;
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.start.Constant;
+import org.opt4j.operators.AbstractGenericOperator;
+import org.opt4j.operators.copy.Copy;
+import org.opt4j.operators.crossover.Crossover;
+import org.opt4j.operators.crossover.Pair;
+import org.opt4j.operators.mutate.Mutate;
+import org.opt4j.operators.selection.IOperatorSelector;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * The {@link ParallelVariation} applies the {@link Crossover}, {@link Mutate},
+ * and {@link Copy} operators to a set of offspring on a {@link ForkJoinPool}.
+ * 
+ * <p>
+ * Each offspring is varied with its own random stream of the
+ * {@link ParallelRand}. The streams of a batch are seeded with a single draw
+ * of the bound {@link Rand}. Given the same seed and the same sequence of
+ * calls, the results are thus identical for any number of threads. If the
+ * draws of the bound {@link Rand} are not intercepted by the
+ * {@link ParallelRand} (see {@link ParallelVariationModule}) or if an
+ * {@link IOperatorSelector} of the operator is not parallelizable (see
+ * {@link IOperatorSelector#isParallelizable()}), the offspring are varied
+ * sequentially in the calling thread.
+ * </p>
+ * 
+ * @author diewald
+ * 
+ */
+@Singleton
+public class ParallelVariation {
+
+	protected final Crossover<Genotype> crossover;
+
+	protected final Mutate<Genotype> mutate;
+
+	protected final Copy<Genotype> copy;
+
+	protected final Rand random;
+
+	protected final ParallelRand parallelRand;
+
+	protected final boolean parallel;
+
+	protected final ForkJoinPool pool;
+
+	protected final int threshold;
+
+	/**
+	 * Constructs a {@link ParallelVariation}.
+	 * 
+	 * @param crossover
+	 *            the crossover operator
+	 * @param mutate
+	 *            the mutate operator
+	 * @param copy
+	 *            the copy operator
+	 * @param random
+	 *            the random number generator
+	 * @param parallelRand
+	 *            the random streams of the tasks
+	 * @param threads
+	 *            the number of threads ({@code 0} for the number of
+	 *            processors)
+	 * @param threshold
+	 *            the number of offspring below which a task is not split any
+	 *            further
+	 */
+	@Inject
+	public ParallelVariation(Crossover<Genotype> crossover, Mutate<Genotype> mutate, Copy<Genotype> copy,
+			Rand random, ParallelRand parallelRand,
+			@Constant(value = "threads", namespace = ParallelVariation.class) int threads,
+			@Constant(value = "threshold", namespace = ParallelVariation.class) int threshold) {
+		this.crossover = crossover;
+		this.mutate = mutate;
+		this.copy = copy;
+		this.random = random;
+		this.parallelRand = parallelRand;
+		this.parallel = parallelRand.intercepts(random);
+		this.pool = new ForkJoinPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+		this.threshold = Math.max(1, threshold);
+	}
+
+	/**
+	 * Performs a crossover for each of the given pairs of parents.
+	 * 
+	 * @param parents
+	 *            the pairs of parent genotypes
+	 * @return the resulting pairs of offspring genotypes
+	 */
+	public List<Pair<Genotype>> crossover(final List<Pair<Genotype>> parents) {
+		final Object[] offspring = new Object[parents.size()];
+		run(crossover, parents.size(), new Variation() {
+			@Override
+			public void vary(int i) {
+				Pair<Genotype> pair = parents.get(i);
+				offspring[i] = crossover.crossover(pair.getFirst(), pair.getSecond());
+			}
+		});
+		return asList(offspring);
+	}
+
+	/**
+	 * Performs a mutation for each of the given genotypes.
+	 * 
+	 * @param genotypes
+	 *            the genotypes to be mutated
+	 * @param p
+	 *            the mutation rate
+	 * @return for each genotype, {@code true} if it has changed (see
+	 *         {@link Mutate#mutateChanged(Genotype, double)})
+	 */
+	public boolean[] mutate(final List<? extends Genotype> genotypes, final double p) {
+		final boolean[] changed = new boolean[genotypes.size()];
+		run(mutate, genotypes.size(), new Variation() {
+			@Override
+			public void vary(int i) {
+				changed[i] = mutate.mutateChanged(genotypes.get(i), p);
+			}
+		});
+		return changed;
+	}
+
+	/**
+	 * Copies each of the given genotypes.
+	 * 
+	 * @param genotypes
+	 *            the genotypes to copy
+	 * @return the copies of the genotypes
+	 */
+	public List<Genotype> copy(final List<? extends Genotype> genotypes) {
+		final Object[] copies = new Object[genotypes.size()];
+		run(copy, genotypes.size(), new Variation() {
+			@Override
+			public void vary(int i) {
+				copies[i] = copy.copy(genotypes.get(i));
+			}
+		});
+		return asList(copies);
+	}
+
+	/**
+	 * Shuts the pool of this {@link ParallelVariation} down.
+	 */
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * The variation of a single offspring.
+	 */
+	protected interface Variation {
+
+		/**
+		 * Varies the offspring with the given index.
+		 * 
+		 * @param i
+		 *            the index of the offspring
+		 */
+		public void vary(int i);
+	}
+
+	/**
+	 * Varies the offspring {@code 0} to {@code size - 1} with one random stream
+	 * each.
+	 * 
+	 * @param operator
+	 *            the operator that varies the offspring
+	 * @param size
+	 *            the number of offspring
+	 * @param variation
+	 *            the variation of a single offspring
+	 */
+	protected void run(Object operator, int size, Variation variation) {
+		if (!parallel || !isParallelizable(operator)) {
+			for (int i = 0; i < size; i++) {
+				variation.vary(i);
+			}
+		} else if (size > 0) {
+			pool.invoke(new VariationTask(random.nextLong(), variation, 0, size));
+		}
+	}
+
+	/**
+	 * Returns {@code true} if all {@link IOperatorSelector}s of the given
+	 * operator are parallelizable. The selectors are checked for each batch,
+	 * since they can be registered at any time.
+	 * 
+	 * @param operator
+	 *            the operator
+	 * @return {@code true} if the operator may be applied in parallel
+	 */
+	protected boolean isParallelizable(Object operator) {
+		if (operator instanceof AbstractGenericOperator) {
+			for (IOperatorSelector selector : ((AbstractGenericOperator<?, ?>) operator).getOperatorSelectors()) {
+				if (selector != null && !selector.isParallelizable()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The {@link VariationTask} splits a range of offspring until it is below
+	 * the threshold.
+	 */
+	protected class VariationTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		protected final long seed;
+
+		protected final Variation variation;
+
+		protected final int from;
+
+		protected final int to;
+
+		/**
+		 * Constructs a {@link VariationTask} for the offspring {@code from}
+		 * (inclusive) to {@code to} (exclusive).
+		 * 
+		 * @param seed
+		 *            the seed of the batch
+		 * @param variation
+		 *            the variation of a single offspring
+		 * @param from
+		 *            the first offspring
+		 * @param to
+		 *            the last offspring (exclusive)
+		 */
+		protected VariationTask(long seed, Variation variation, int from, int to) {
+			this.seed = seed;
+			this.variation = variation;
+			this.from = from;
+			this.to = to;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.util.concurrent.RecursiveAction#compute()
+		 */
+		@Override
+		protected void compute() {
+			if (to - from <= threshold) {
+				for (int i = from; i < to; i++) {
+					parallelRand.begin(seed, i);
+					try {
+						variation.vary(i);
+					} finally {
+						parallelRand.end();
+					}
+				}
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new VariationTask(seed, variation, from, middle),
+						new VariationTask(seed, variation, middle, to));
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> asList(Object[] elements) {
+		return new ArrayList<T>((List<T>) Arrays.asList(elements));
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.parallel;
+
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.config.Icons;
+import org.opt4j.core.config.annotations.Icon;
+import org.opt4j.core.config.annotations.Info;
+import org.opt4j.core.config.annotations.Parent;
+import org.opt4j.core.optimizer.OptimizerModule;
+import org.opt4j.core.start.Constant;
+import org.opt4j.core.start.Opt4JModule;
+
+/**
+ * The {@link ParallelVariationModule} wraps the bound {@link Rand} with the
+ * {@link ParallelRand} such that the {@link ParallelVariation} can vary
+ * offspring reproducibly in parallel. The binding and the seed of the
+ * {@link Rand} are kept, i.e., this module is used together with the module
+ * that binds the {@link Rand}.
+ * 
+ * @author diewald
+ * 
+ */
+@Icon(Icons.OPERATOR)
+@Parent(OptimizerModule.class)
+@Info("Setting for the parallel variation of offspring.")
+public class ParallelVariationModule extends Opt4JModule {
+
+	@Info("The number of threads (0 for the number of processors).")
+	@Constant(value = "threads", namespace = ParallelVariation.class)
+	protected int threads = 0;
+
+	@Info("The number of offspring below which a task is not split any further.")
+	@Constant(value = "threshold", namespace = ParallelVariation.class)
+	protected int threshold = 16;
+
+	/**
+	 * Returns the number of threads.
+	 * 
+	 * @return the number of threads
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Sets the number of threads.
+	 * 
+	 * @param threads
+	 *            the number of threads
+	 */
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	/**
+	 * Returns the threshold for splitting tasks.
+	 * 
+	 * @return the threshold
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Sets the threshold for splitting tasks.
+	 * 
+	 * @param threshold
+	 *            the threshold
+	 */
+	public void setThreshold(int threshold) {
+		this.threshold = threshold;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.opt4j.start.Opt4JModule#config()
+	 */
+	@Override
+	public void config() {
+		ParallelRand random = new ParallelRand();
+		random.install(binder());
+		bind(ParallelRand.class).toInstance(random);
+	}
+}
@@ -0,0 +1,428 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package org.opt4j.operators.selection;
+
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opt4j.core.Genotype;
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.genotype.CompositeGenotype;
+import org.opt4j.core.optimizer.Operator;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * Adaptive selection strategy that credits {@link Operator}s by the
+ * improvement of the offspring they produce (adaptive pursuit, Thierens 2005).
+ * <p>
+ * Each {@link Operator} has a quality estimate that is updated with a
+ * recency-weighted average of the rewards passed to
+ * {@link #credit(Genotype, double)} or {@link #credit(Operator, double)}. The {@link Operator} with the highest
+ * quality is selected with probability {@code 1 - (k - 1) * pMin} and each
+ * other of the {@code k} applicable {@link Operator}s with probability
+ * {@code pMin}, which is the steady state of the pursuit probabilities. The
+ * currently best {@link Operator} is maintained on crediting, such that a
+ * selection takes constant time and does not allocate. The memory is bounded
+ * by the number of distinct {@link Operator}s and lists of applicable
+ * {@link Operator}s.
+ * <p>
+ * The generic operators report the offspring each selected {@link Operator}
+ * produces (see {@link #produced(Operator, Genotype)}). The selector is a
+ * singleton, such that the instance registered with
+ * {@code OperatorModule.addOperatorSelector} can be injected wherever the
+ * offspring are evaluated in order to credit their {@link Operator}s with
+ * {@link #credit(Genotype, double)}. The offspring are referenced weakly, such
+ * that offspring that are never credited do not retain memory.
+ * 
+ * @author diewald
+ */
+@Singleton
+public class AdaptivePursuitOperatorSelector implements IOperatorSelector {
+
+	/**
+	 * The state of a single {@link Operator}.
+	 */
+	protected static class Arm {
+
+		/** The quality estimate as raw double bits. */
+		protected final AtomicLong quality = new AtomicLong(Double.doubleToRawLongBits(0.0));
+
+		/** The number of credits received. */
+		protected final AtomicLong credits = new AtomicLong();
+
+		/** The groups this arm is part of (copy-on-write). */
+		protected volatile Group[] groups = new Group[0];
+
+		public double getQuality() {
+			return Double.longBitsToDouble(quality.get());
+		}
+
+		public long getCredits() {
+			return credits.get();
+		}
+	}
+
+	/**
+	 * The state of a list of applicable {@link Operator}s.
+	 */
+	protected static class Group {
+
+		protected final Arm[] arms;
+
+		/** The index of the arm with the highest quality. */
+		protected volatile int best;
+
+		protected Group(Arm[] arms) {
+			this.arms = arms;
+			update();
+		}
+
+		/**
+		 * Recomputes the arm with the highest quality.
+		 */
+		protected void update() {
+			int index = 0;
+			double max = arms[0].getQuality();
+			for (int i = 1; i < arms.length; i++) {
+				double q = arms[i].getQuality();
+				if (q > max) {
+					max = q;
+					index = i;
+				}
+			}
+			best = index;
+		}
+
+		/**
+		 * Updates the best arm after the quality of the given arm changed.
+		 * 
+		 * @param arm
+		 *            the changed arm
+		 */
+		protected void update(Arm arm) {
+			Arm current = arms[best];
+			if (current == arm) {
+				// The best arm may have lost its position.
+				update();
+			} else if (arm.getQuality() > current.getQuality()) {
+				for (int i = 0; i < arms.length; i++) {
+					if (arms[i] == arm) {
+						best = i;
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/** Utilized random number generator. */
+	protected final Rand random;
+
+	/** The arms per {@link Operator}. */
+	protected final ConcurrentMap<Operator<?>, Arm> arms = new ConcurrentHashMap<>();
+
+	/** The groups per list of applicable {@link Operator}s. */
+	protected final ConcurrentMap<List<?>, Group> groups = new ConcurrentHashMap<>();
+
+	/**
+	 * The groups per list instance (identity, weak keys). The generic operators
+	 * pass the same list for each genotype class, which avoids hashing it.
+	 */
+	protected final ConcurrentMap<List<?>, Group> lists = new MapMaker().weakKeys().makeMap();
+
+	/**
+	 * The arms that produced the offspring (identity, weak keys), e.g., the
+	 * crossover and the mutate {@link Operator} of an offspring. The value is
+	 * the {@link Arm} for a single producer and an array of {@link Arm}s for
+	 * multiple producers.
+	 */
+	protected final ConcurrentMap<Genotype, Object> producers = new MapMaker().weakKeys().makeMap();
+
+	/** The adaptation rate of the quality estimates. */
+	protected volatile double alpha = 0.3;
+
+	/** The minimal selection probability of each {@link Operator}. */
+	protected volatile double pMin = 0.05;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param random
+	 *            {@link Rand} generator to use for the selection.
+	 */
+	@Inject
+	public AdaptivePursuitOperatorSelector(Rand random) {
+		this.random = random;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.opt4j.operators.selection.IOperatorSelector#select(java.util.List, org.opt4j.core.Genotype)
+	 */
+	@Override
+	public <O extends Operator<?>> O select(List<O> applicableOperators, Genotype genotype) {
+		int k = applicableOperators.size();
+		if (k == 0) {
+			return null;
+		} else if (k == 1) {
+			return applicableOperators.get(0);
+		}
+
+		int best = getGroup(applicableOperators).best;
+		double pMin = Math.min(this.pMin, 1.0 / k);
+		double r = random.nextDouble();
+		double pExplore = (k - 1) * pMin;
+
+		if (r >= pExplore) {
+			return applicableOperators.get(best);
+		}
+		// Uniformly one of the other k - 1 operators.
+		int index = (int) (r / pMin);
+		if (index >= k - 1) {
+			index = k - 2;
+		}
+		return applicableOperators.get(index < best ? index : index + 1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.selection.IOperatorSelector#produced(org.opt4j.core.
+	 * optimizer.Operator, org.opt4j.core.Genotype)
+	 */
+	@Override
+	public void produced(Operator<?> operator, Genotype offspring) {
+		Arm arm = getArm(operator);
+		// Most offspring have a single producer: record the arm itself.
+		if (producers.putIfAbsent(offspring, arm) != null) {
+			producers.merge(offspring, arm, AdaptivePursuitOperatorSelector::join);
+		}
+	}
+
+	/**
+	 * Appends an {@link Arm} to the recorded producers of an offspring.
+	 * 
+	 * @param producers
+	 *            the recorded {@link Arm} or array of {@link Arm}s
+	 * @param arm
+	 *            the {@link Arm} to append
+	 * @return the array of {@link Arm}s
+	 */
+	protected static Object join(Object producers, Object arm) {
+		if (producers instanceof Arm) {
+			return new Arm[] { (Arm) producers, (Arm) arm };
+		}
+		Arm[] current = (Arm[]) producers;
+		Arm[] extended = new Arm[current.length + 1];
+		System.arraycopy(current, 0, extended, 0, current.length);
+		extended[current.length] = (Arm) arm;
+		return extended;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.opt4j.operators.selection.IOperatorSelector#isParallelizable()
+	 */
+	@Override
+	public boolean isParallelizable() {
+		// The state is concurrent and only changed by credits between batches.
+		return true;
+	}
+
+	/**
+	 * Credits the {@link Operator}s that produced the given offspring with a
+	 * reward, typically the improvement of the offspring over its parents. For
+	 * a {@link CompositeGenotype}, the {@link Operator}s of all elements are
+	 * credited. Each produced offspring is credited at most once.
+	 * 
+	 * @param offspring
+	 *            the offspring
+	 * @param reward
+	 *            the reward
+	 * @return {@code true} if an {@link Operator} has been credited
+	 */
+	public boolean credit(Genotype offspring, double reward) {
+		if (offspring instanceof CompositeGenotype) {
+			boolean credited = false;
+			for (Entry<?, ? extends Genotype> entry : (CompositeGenotype<?, ?>) offspring) {
+				if (credit(entry.getValue(), reward)) {
+					credited = true;
+				}
+			}
+			return credited;
+		}
+
+		Object recorded = producers.remove(offspring);
+		if (recorded == null) {
+			return false;
+		} else if (recorded instanceof Arm) {
+			credit((Arm) recorded, reward);
+		} else {
+			for (Arm arm : (Arm[]) recorded) {
+				credit(arm, reward);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Credits the given {@link Operator} with a reward, typically the
+	 * improvement of the offspring over its parents. The quality of the
+	 * {@link Operator} is moved towards the reward by the adaptation rate.
+	 * 
+	 * @param operator
+	 *            the {@link Operator} that produced the offspring
+	 * @param reward
+	 *            the reward
+	 */
+	public void credit(Operator<?> operator, double reward) {
+		credit(getArm(operator), reward);
+	}
+
+	/**
+	 * Moves the quality of the given arm towards the reward.
+	 * 
+	 * @param arm
+	 *            the arm
+	 * @param reward
+	 *            the reward
+	 */
+	protected void credit(Arm arm, double reward) {
+		double alpha = this.alpha;
+
+		long prev;
+		long next;
+		do {
+			prev = arm.quality.get();
+			double q = Double.longBitsToDouble(prev);
+			next = Double.doubleToRawLongBits(q + alpha * (reward - q));
+		} while (!arm.quality.compareAndSet(prev, next));
+		arm.credits.incrementAndGet();
+
+		for (Group group : arm.groups) {
+			group.update(arm);
+		}
+	}
+
+	/**
+	 * Returns the current quality estimate of the given {@link Operator}.
+	 * 
+	 * @param operator
+	 *            the {@link Operator}
+	 * @return the quality estimate
+	 */
+	public double getQuality(Operator<?> operator) {
+		return getArm(operator).getQuality();
+	}
+
+	/**
+	 * Returns the number of credits the given {@link Operator} received.
+	 * 
+	 * @param operator
+	 *            the {@link Operator}
+	 * @return the number of credits
+	 */
+	public long getCredits(Operator<?> operator) {
+		return getArm(operator).getCredits();
+	}
+
+	/**
+	 * Sets the adaptation rate of the quality estimates.
+	 * 
+	 * @param alpha
+	 *            the adaptation rate in (0,1]
+	 */
+	public void setAlpha(double alpha) {
+		if (alpha <= 0 || alpha > 1) {
+			throw new IllegalArgumentException("The adaptation rate has to be in (0,1]: " + alpha);
+		}
+		this.alpha = alpha;
+	}
+
+	/**
+	 * Sets the minimal selection probability of each {@link Operator}. It is
+	 * limited to {@code 1/k} for {@code k} applicable {@link Operator}s.
+	 * 
+	 * @param pMin
+	 *            the minimal selection probability in [0,1]
+	 */
+	public void setMinProbability(double pMin) {
+		if (pMin < 0 || pMin > 1) {
+			throw new IllegalArgumentException("The minimal probability has to be in [0,1]: " + pMin);
+		}
+		this.pMin = pMin;
+	}
+
+	protected Arm getArm(Operator<?> operator) {
+		Arm arm = arms.get(operator);
+		if (arm == null) {
+			Arm created = new Arm();
+			arm = arms.putIfAbsent(operator, created);
+			if (arm == null) {
+				arm = created;
+			}
+		}
+		return arm;
+	}
+
+	protected Group getGroup(List<? extends Operator<?>> operators) {
+		Group group = lists.get(operators);
+		if (group == null) {
+			group = groups.get(operators);
+			if (group == null) {
+				group = createGroup(operators);
+			}
+			lists.put(operators, group);
+		}
+		return group;
+	}
+
+	protected synchronized Group createGroup(List<? extends Operator<?>> operators) {
+		Group group = groups.get(operators);
+		if (group == null) {
+			Arm[] members = new Arm[operators.size()];
+			for (int i = 0; i < members.length; i++) {
+				members[i] = getArm(operators.get(i));
+			}
+			group = new Group(members);
+			for (Arm arm : members) {
+				Group[] current = arm.groups;
+				Group[] extended = new Group[current.length + 1];
+				System.arraycopy(current, 0, extended, 0, current.length);
+				extended[current.length] = group;
+				arm.groups = extended;
+			}
+			// Copy the key, the given list might be reused by the caller.
+			groups.put(ImmutableList.copyOf(operators), group);
+		}
+		return group;
+	}
+}
@@ -46,4 +46,30 @@ public interface IOperatorSelector {
 	 * @return selected {@link Operator} from the input list.
 	 */
 	<O extends Operator<?>> O select(List<O> applicableOperators, Genotype genotype);
+
+	/**
+	 * Notifies the strategy that a selected {@link Operator} has produced an offspring
+	 * {@link Genotype}, e.g., to attribute a later reward of the offspring to the
+	 * {@link Operator}. Does nothing by default.
+	 * 
+	 * @param operator the selected {@link Operator}.
+	 * @param offspring the {@link Genotype} produced by the {@link Operator}.
+	 */
+	default void produced(Operator<?> operator, Genotype offspring) {
+		// nothing to do
+	}
+
+	/**
+	 * Returns {@code true} if the strategy may be called concurrently for
+	 * different offspring and its selections for an offspring only depend on
+	 * the draws of the bound {@link org.opt4j.core.common.random.Rand} for
+	 * this offspring. Otherwise, the
+	 * {@link org.opt4j.operators.parallel.ParallelVariation} varies the
+	 * offspring sequentially. Returns {@code false} by default.
+	 * 
+	 * @return {@code true} if the offspring may be varied in parallel
+	 */
+	default boolean isParallelizable() {
+		return false;
+	}
 }
@@ -21,9 +21,8 @@
  *******************************************************************************/
 package org.opt4j.operators.selection;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.opt4j.core.Genotype;
 import org.opt4j.core.optimizer.Operator;
@@ -31,14 +30,15 @@ import org.opt4j.core.optimizer.Operator;
 /**
  * Selector that selects one {@link Operator} out of the given {@link Operator}s by a round robin
  * principle. The list of passed applicable {@link Operator}s is assumed to have a fixed order:
- * the selection index is bound to the {@link Genotype} to be modified.
+ * the selection index is kept per selector and advances with each selection, independent of
+ * the {@link Genotype} to be modified. The index may be updated concurrently.
  * 
  * @author diewald
  */
 public class RoundRobinOperatorSelector implements IOperatorSelector {
 	
-	/** Remembers the selection index bound to {@link Genotype}s. */
-	private Map<Genotype, Integer> selectionHolder = new HashMap<>();
+	/** The number of selections of this selector. */
+	private final AtomicInteger selections = new AtomicInteger();
 
 	/* (non-Javadoc)
 	 * @see org.opt4j.operators.selection.IOperatorSelector#select(java.util.List, org.opt4j.core.Genotype)
@@ -49,10 +49,7 @@ public class RoundRobinOperatorSelector implements IOperatorSelector {
 			return null;
 		}
 		
-		int selIdx = selectionHolder.get(genotype);
-		selIdx = (selIdx < applicableOperators.size()) ? selIdx : 0;
-		selectionHolder.put(genotype, selIdx);
-		
+		int selIdx = Math.floorMod(selections.getAndIncrement(), applicableOperators.size());
 		return applicableOperators.get(selIdx);
 	}
 }
@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.opt4j.core.Genotype;
+import org.opt4j.core.optimizer.Operator;
+import org.opt4j.operators.AbstractGenericOperator.OperatorClassDeterminedPredicate;
+import org.opt4j.operators.AbstractGenericOperator.OperatorClassPredicate;
+import org.opt4j.operators.AbstractGenericOperator.OperatorPredicate;
+import org.opt4j.operators.selection.IOperatorSelector;
+
+/**
+ * Stress test for the copy-on-write registry of the
+ * {@link AbstractGenericOperator}: many threads dispatch concurrently while
+ * another thread registers operators and selectors. Each dispatch has to
+ * return the same operator as in single-threaded mode.
+ * 
+ * @author diewald
+ * 
+ */
+public class AbstractGenericOperatorConcurrencyTest {
+
+	protected static final int THREADS = 8;
+
+	protected static final int DISPATCHES = 20000;
+
+	protected static final int REGISTRATIONS = 500;
+
+	/**
+	 * Base genotype of the test hierarchy.
+	 */
+	public static class A implements Genotype {
+		@Override
+		public int size() {
+			return 0;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <G extends Genotype> G newInstance() {
+			return null;
+		}
+	}
+
+	public static class B extends A {
+	}
+
+	public static class C extends B {
+	}
+
+	public static class D extends A {
+	}
+
+	public static class E extends C {
+	}
+
+	/**
+	 * Genotype that is only used by the concurrent registrations.
+	 */
+	public static class F extends A {
+	}
+
+	/**
+	 * Named test operator.
+	 */
+	public static class TestOperator implements Operator<Genotype> {
+
+		protected final String name;
+
+		public TestOperator(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public Class<? extends Operator<?>> getOperatorType() {
+			return TestOperator.class;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	/**
+	 * Generic operator with the registrations of the test.
+	 */
+	protected static class TestGenericOperator extends AbstractGenericOperator<TestOperator, TestOperator> {
+
+		protected TestGenericOperator() {
+			operatorSelectors = new HashMap<>();
+
+			addOperator(new OperatorClassPredicate(A.class), new TestOperator("A"));
+			addOperator(new OperatorClassPredicate(B.class), new TestOperator("B"));
+			addOperator(new OperatorClassPredicate(D.class), new TestOperator("D"));
+			addOperator(new OperatorClassDeterminedPredicate() {
+				@Override
+				public boolean evaluate(Class<? extends Genotype> clazz) {
+					return E.class.isAssignableFrom(clazz);
+				}
+			}, new TestOperator("E"));
+
+			// C and E match several operators: select the most specific one.
+			IOperatorSelector first = new IOperatorSelector() {
+				@Override
+				public <O extends Operator<?>> O select(List<O> applicableOperators, Genotype genotype) {
+					return applicableOperators.get(0);
+				}
+			};
+			addOperatorSelector(key(C.class), first);
+			addOperatorSelector(key(E.class), first);
+		}
+	}
+
+	protected static SimpleEntry<Class<? extends Genotype>, Class<? extends Operator<?>>> key(
+			Class<? extends Genotype> clazz) {
+		return new SimpleEntry<Class<? extends Genotype>, Class<? extends Operator<?>>>(clazz, TestOperator.class);
+	}
+
+	protected static final List<Genotype> GENOTYPES = new ArrayList<Genotype>();
+
+	static {
+		GENOTYPES.add(new A());
+		GENOTYPES.add(new B());
+		GENOTYPES.add(new C());
+		GENOTYPES.add(new D());
+		GENOTYPES.add(new E());
+	}
+
+	/**
+	 * Returns the names of the operators that are dispatched in
+	 * single-threaded mode.
+	 */
+	protected static Map<Class<?>, String> expected() {
+		TestGenericOperator operator = new TestGenericOperator();
+		Map<Class<?>, String> expected = new HashMap<Class<?>, String>();
+		for (Genotype genotype : GENOTYPES) {
+			expected.put(genotype.getClass(), operator.getOperator(genotype).toString());
+		}
+		return expected;
+	}
+
+	@Test
+	public void singleThreaded() {
+		Map<Class<?>, String> expected = expected();
+		assertEquals("A", expected.get(A.class));
+		assertEquals("B", expected.get(B.class));
+		assertEquals("B", expected.get(C.class));
+		assertEquals("D", expected.get(D.class));
+		assertEquals("E", expected.get(E.class));
+	}
+
+	@Test
+	public void concurrentDispatch() throws Exception {
+		stress(false);
+	}
+
+	@Test
+	public void concurrentDispatchAndRegistration() throws Exception {
+		stress(true);
+	}
+
+	protected void stress(boolean register) throws Exception {
+		final Map<Class<?>, String> expected = expected();
+		final TestGenericOperator operator = new TestGenericOperator();
+		final CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+
+		try {
+			List<Future<Integer>> readers = new ArrayList<Future<Integer>>();
+			for (int t = 0; t < THREADS; t++) {
+				final long seed = t;
+				readers.add(executor.submit(new Callable<Integer>() {
+					@Override
+					public Integer call() throws Exception {
+						Random random = new Random(seed);
+						start.await();
+						int mismatches = 0;
+						for (int i = 0; i < DISPATCHES; i++) {
+							Genotype genotype = GENOTYPES.get(random.nextInt(GENOTYPES.size()));
+							String name = operator.getOperator(genotype).toString();
+							if (!name.equals(expected.get(genotype.getClass()))) {
+								mismatches++;
+							}
+						}
+						return mismatches;
+					}
+				}));
+			}
+
+			Future<?> writer = executor.submit(new Callable<Void>() {
+				@Override
+				public Void call() throws Exception {
+					start.await();
+					for (int i = 0; register && i < REGISTRATIONS; i++) {
+						// Registrations that do not apply to the dispatched genotypes
+						// but replace the registry and the dispatch cache.
+						operator.addOperator(new OperatorClassPredicate(F.class), new TestOperator("F" + i));
+						operator.addOperator(new OperatorPredicate() {
+							@Override
+							public boolean evaluate(Genotype genotype) {
+								return genotype instanceof F;
+							}
+						}, new TestOperator("G" + i));
+						operator.addOperatorSelector(key(F.class), null);
+					}
+					return null;
+				}
+			});
+
+			start.countDown();
+			for (Future<Integer> reader : readers) {
+				assertEquals(0, (int) reader.get());
+			}
+			writer.get();
+		} finally {
+			executor.shutdown();
+			assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		}
+
+		Collection<TestOperator> operators = operator.getOperators();
+		assertEquals(register ? 4 + 2 * REGISTRATIONS : 4, operators.size());
+	}
+
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators;
+
+import static org.junit.Assert.assertEquals;
+import static org.opt4j.operators.Randoms.random;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.opt4j.core.genotype.PermutationGenotype;
+import org.opt4j.operators.mutate.MutatePermutationInsert;
+import org.opt4j.operators.mutate.MutatePermutationRevert;
+
+/**
+ * Tests that the moves and reversions of the {@link PermutationSequence}
+ * match those of an {@link ArrayList} for random sequences of operations.
+ * 
+ * @author diewald
+ * 
+ */
+public class PermutationSequenceTest {
+
+	protected static List<Object> list(int size) {
+		List<Object> list = new ArrayList<Object>();
+		for (int i = 0; i < size; i++) {
+			list.add("e" + i);
+		}
+		return list;
+	}
+
+	protected static void assertSequence(List<Object> expected, PermutationSequence sequence) {
+		assertEquals(expected.size(), sequence.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals("position " + i, expected.get(i), sequence.get(i));
+		}
+	}
+
+	@Test
+	public void empty() {
+		PermutationSequence sequence = new PermutationSequence(list(0));
+		assertEquals(0, sequence.size());
+		List<Object> copy = list(0);
+		sequence.copyTo(copy);
+		assertEquals(0, copy.size());
+	}
+
+	@Test
+	public void randomOperations() {
+		Random random = new Random(0);
+		for (int size : new int[] { 1, 2, 3, 10, 257, 5000 }) {
+			List<Object> expected = list(size);
+			PermutationSequence sequence = new PermutationSequence(expected);
+			assertSequence(expected, sequence);
+
+			int operations = Math.min(20 * size, 2000);
+			for (int k = 0; k < operations; k++) {
+				if (random.nextBoolean()) {
+					int from = random.nextInt(size);
+					int to = random.nextInt(size);
+					expected.add(to, expected.remove(from));
+					sequence.move(from, to);
+				} else {
+					int from = random.nextInt(size + 1);
+					int to = from + random.nextInt(size + 1 - from);
+					Collections.reverse(expected.subList(from, to));
+					sequence.revert(from, to);
+				}
+
+				if (k % 100 == 0 || size < 20) {
+					assertSequence(expected, sequence);
+				}
+			}
+			assertSequence(expected, sequence);
+
+			List<Object> copy = list(size);
+			sequence.copyTo(copy);
+			assertEquals(expected, copy);
+		}
+	}
+
+	@Test
+	public void mutationRuns() {
+		// Several moves and reversions as in the permutation mutations.
+		Random random = new Random(1);
+		int size = PermutationSequence.MIN_SIZE;
+		List<Object> expected = list(size);
+		PermutationSequence sequence = new PermutationSequence(expected);
+		for (int i = 0; i < size; i += 1 + random.nextInt(size / PermutationSequence.MIN_MOVES)) {
+			int j = random.nextInt(size - 1);
+			expected.add(j, expected.remove(i));
+			sequence.move(i, j);
+		}
+		for (int a = 0; a < size - 1; a += 1 + random.nextInt(size / PermutationSequence.MIN_MOVES)) {
+			int b = a + 1 + random.nextInt(size - a - 1);
+			Collections.reverse(expected.subList(a, b + 1));
+			sequence.revert(a, b + 1);
+		}
+
+		List<Object> copy = list(size);
+		sequence.copyTo(copy);
+		assertEquals(expected, copy);
+	}
+
+	@Test
+	public void insertMutation() {
+		int size = 2 * PermutationSequence.MIN_SIZE;
+		double p = 0.05;
+		PermutationGenotype<Object> permutation = new PermutationGenotype<Object>(list(size));
+		new MutatePermutationInsert(random(0)).mutate(permutation, p);
+
+		// The list based insertion for the same random numbers.
+		Random random = random(0);
+		List<Object> expected = list(size);
+		for (int i = SkipSampling.next(random, p, 0); i < size; i = SkipSampling.next(random, p, i + 1)) {
+			Object object = expected.remove(i);
+			expected.add(random.nextInt(size - 1), object);
+		}
+		assertEquals(expected, permutation);
+	}
+
+	@Test
+	public void revertMutation() {
+		int size = 2 * PermutationSequence.MIN_SIZE;
+		double p = 0.05;
+		PermutationGenotype<Object> permutation = new PermutationGenotype<Object>(list(size));
+		new MutatePermutationRevert(random(0)).mutate(permutation, p);
+
+		// The list based reversion for the same random numbers.
+		Random random = random(0);
+		List<Object> expected = list(size);
+		for (int a = SkipSampling.next(random, p, 0); a < size - 1; a = SkipSampling.next(random, p, a + 1)) {
+			int b;
+			do {
+				b = a + random.nextInt(size - a);
+			} while (b == a);
+			Collections.reverse(expected.subList(a, b + 1));
+			a += (b - a + 1) / 2;
+		}
+		assertEquals(expected, permutation);
+	}
+
+}
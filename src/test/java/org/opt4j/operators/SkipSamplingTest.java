@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests that the {@link SkipSampling} selects the positions with the same
+ * distribution as a Bernoulli trial per position.
+ * 
+ * @author diewald
+ * 
+ */
+public class SkipSamplingTest {
+
+	protected static final double[] RATES = { 0.5, 0.1, 0.01 };
+
+	@Test
+	public void bounds() {
+		Random random = new Random(0);
+		assertEquals(0, SkipSampling.skip(random, 1));
+		assertEquals(0, SkipSampling.skip(random, 1.5));
+		assertEquals(Integer.MAX_VALUE, SkipSampling.skip(random, 0));
+		assertEquals(Integer.MAX_VALUE, SkipSampling.skip(random, Double.NaN));
+		assertEquals(Integer.MAX_VALUE, SkipSampling.next(random, 1e-300, Integer.MAX_VALUE - 1));
+		assertEquals(5, SkipSampling.next(random, 1, 5));
+	}
+
+	@Test
+	public void geometricSkips() {
+		Random random = new Random(0);
+		int draws = 100000;
+		for (double rate : RATES) {
+			double sum = 0;
+			int zeros = 0;
+			for (int k = 0; k < draws; k++) {
+				int skip = SkipSampling.skip(random, rate);
+				sum += skip;
+				zeros += skip == 0 ? 1 : 0;
+			}
+			// P(skip = 0) = rate and E[skip] = (1 - rate) / rate.
+			double mean = (1 - rate) / rate;
+			assertEquals(mean, sum / draws, 0.03 * mean);
+			assertEquals(rate, (double) zeros / draws, 0.03 * rate + 0.001);
+		}
+	}
+
+	@Test
+	public void bernoulliPositions() {
+		int size = 40;
+		int draws = 50000;
+		for (double rate : RATES) {
+			Random random = new Random(1);
+			Random reference = new Random(2);
+			int[] selected = new int[size];
+			int[] expected = new int[size];
+			double sum = 0;
+			double squares = 0;
+			double referenceSum = 0;
+			double referenceSquares = 0;
+
+			for (int k = 0; k < draws; k++) {
+				int count = 0;
+				for (int i = SkipSampling.next(random, rate, 0); i < size; i = SkipSampling.next(random, rate, i + 1)) {
+					selected[i]++;
+					count++;
+				}
+				sum += count;
+				squares += count * count;
+
+				// The former per-position Bernoulli trials.
+				int referenceCount = 0;
+				for (int i = 0; i < size; i++) {
+					if (reference.nextDouble() < rate) {
+						expected[i]++;
+						referenceCount++;
+					}
+				}
+				referenceSum += referenceCount;
+				referenceSquares += referenceCount * referenceCount;
+			}
+
+			// Five standard deviations of the relative frequencies.
+			double tolerance = 5 * Math.sqrt(rate * (1 - rate) / draws);
+			for (int i = 0; i < size; i++) {
+				assertEquals(rate, (double) selected[i] / draws, tolerance);
+				assertEquals((double) expected[i] / draws, (double) selected[i] / draws, Math.sqrt(2) * tolerance);
+			}
+
+			// Binomial(size, rate) number of selected positions.
+			double mean = sum / draws;
+			double variance = squares / draws - mean * mean;
+			double referenceMean = referenceSum / draws;
+			double referenceVariance = referenceSquares / draws - referenceMean * referenceMean;
+			assertEquals(size * rate, mean, 0.02 * size * rate);
+			assertEquals(size * rate * (1 - rate), variance, 0.05 * size * rate * (1 - rate));
+			assertEquals(referenceMean, mean, 0.03 * size * rate);
+			assertEquals(referenceVariance, variance, 0.08 * size * rate * (1 - rate));
+		}
+	}
+
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.crossover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.opt4j.operators.Randoms.random;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.opt4j.core.genotype.BooleanGenotype;
+
+/**
+ * Tests that the crossover operators for the {@link BooleanGenotype} create
+ * complementary offspring: at each position, the offspring take one value of
+ * each parent.
+ * 
+ * @author diewald
+ * 
+ */
+public class CrossoverBooleanTest {
+
+	protected static final int[] SIZES = { 4, 63, 64, 65, 127, 200 };
+
+	protected static List<CrossoverBoolean> operators() {
+		List<CrossoverBoolean> operators = new ArrayList<CrossoverBoolean>();
+		operators.add(new CrossoverBooleanRate(0.5, random(1)));
+		operators.add(new CrossoverBooleanRate(0.05, random(2)));
+		operators.add(new CrossoverBooleanDefault(random(3)));
+		operators.add(new CrossoverBooleanXPoint(1, random(4)));
+		operators.add(new CrossoverBooleanXPoint(3, random(5)));
+		return operators;
+	}
+
+	protected static BooleanGenotype genotype(Random random, int size, Boolean value) {
+		BooleanGenotype genotype = new BooleanGenotype();
+		for (int i = 0; i < size; i++) {
+			genotype.add(value != null ? value : random.nextBoolean());
+		}
+		return genotype;
+	}
+
+	protected static void assertComplement(BooleanGenotype p1, BooleanGenotype p2, Pair<BooleanGenotype> offspring) {
+		BooleanGenotype o1 = offspring.getFirst();
+		BooleanGenotype o2 = offspring.getSecond();
+		assertEquals(p1.size(), o1.size());
+		assertEquals(p1.size(), o2.size());
+		for (int i = 0; i < p1.size(); i++) {
+			boolean straight = o1.get(i) == p1.get(i) && o2.get(i) == p2.get(i);
+			boolean crossed = o1.get(i) == p2.get(i) && o2.get(i) == p1.get(i);
+			assertTrue("position " + i, straight || crossed);
+		}
+	}
+
+	@Test
+	public void complementaryParents() {
+		for (CrossoverBoolean crossover : operators()) {
+			for (int size : SIZES) {
+				BooleanGenotype p1 = genotype(null, size, true);
+				BooleanGenotype p2 = genotype(null, size, false);
+				for (int k = 0; k < 10; k++) {
+					Pair<BooleanGenotype> offspring = crossover.crossover(p1, p2);
+					assertFalse(offspring instanceof LazyPair);
+					assertComplement(p1, p2, offspring);
+
+					int trues = 0;
+					for (int i = 0; i < size; i++) {
+						trues += (offspring.getFirst().get(i) ? 1 : 0) + (offspring.getSecond().get(i) ? 1 : 0);
+					}
+					assertEquals(crossover.getClass().getSimpleName(), size, trues);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void randomParents() {
+		Random random = new Random(0);
+		for (CrossoverBoolean crossover : operators()) {
+			for (int size : SIZES) {
+				for (int k = 0; k < 10; k++) {
+					BooleanGenotype p1 = genotype(random, size, null);
+					BooleanGenotype p2 = genotype(random, size, null);
+					Pair<BooleanGenotype> offspring = crossover.crossover(p1, p2);
+					assertFalse(offspring instanceof LazyPair);
+					assertComplement(p1, p2, offspring);
+					assertComplement(p1, p2, crossover.crossoverLazy(p1, p2));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void reusedOffspring() {
+		Random random = new Random(0);
+		for (CrossoverBoolean crossover : operators()) {
+			for (int size : SIZES) {
+				BooleanGenotype o1 = genotype(random, size + 3, null);
+				BooleanGenotype o2 = genotype(random, size, null);
+				for (int k = 0; k < 10; k++) {
+					BooleanGenotype p1 = genotype(random, size, null);
+					BooleanGenotype p2 = genotype(random, size, null);
+					Pair<BooleanGenotype> offspring = crossover.crossover(p1, p2, o1, o2);
+					assertTrue(offspring.getFirst() == o1 && offspring.getSecond() == o2);
+					assertComplement(p1, p2, offspring);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void sameAsListCrossover() {
+		Random random = new Random(0);
+		for (int size : SIZES) {
+			List<Crossover<BooleanGenotype>> packed = new ArrayList<Crossover<BooleanGenotype>>();
+			List<Crossover<BooleanGenotype>> lists = new ArrayList<Crossover<BooleanGenotype>>();
+			packed.add(new CrossoverBooleanRate(0.05, random(size)));
+			lists.add(new CrossoverListRate<BooleanGenotype>(0.05, random(size)) {
+			});
+			packed.add(new CrossoverBooleanXPoint(3, random(size)));
+			lists.add(new CrossoverListXPoint<BooleanGenotype>(3, random(size)) {
+			});
+
+			for (int i = 0; i < packed.size(); i++) {
+				for (int k = 0; k < 10; k++) {
+					BooleanGenotype p1 = genotype(random, size, null);
+					BooleanGenotype p2 = genotype(random, size, null);
+					Pair<BooleanGenotype> expected = lists.get(i).crossover(p1, p2);
+					Pair<BooleanGenotype> offspring = packed.get(i).crossover(p1, p2);
+					assertEquals(expected.getFirst(), offspring.getFirst());
+					assertEquals(expected.getSecond(), offspring.getSecond());
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.crossover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.opt4j.operators.Randoms.random;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.opt4j.core.genotype.Bounds;
+import org.opt4j.core.genotype.DoubleGenotype;
+import org.opt4j.operators.normalize.NormalizeDoubleBorder;
+
+/**
+ * Tests the entry points of the crossover operators for the
+ * {@link DoubleGenotype} and the bounds of the
+ * {@link CrossoverDoubleSBXBounded}.
+ * 
+ * @author diewald
+ * 
+ */
+public class CrossoverDoubleTest {
+
+	protected static DoubleGenotype genotype(Random random, int size) {
+		DoubleGenotype genotype = new DoubleGenotype(0, 1);
+		genotype.init(random, size);
+		return genotype;
+	}
+
+	@Test
+	public void listHookForAllEntryPoints() {
+		final int[] calls = new int[1];
+		CrossoverDoubleSBX crossover = new CrossoverDoubleSBX(15, new NormalizeDoubleBorder(), random(0)) {
+			@Override
+			protected void crossover(List<Double> p1, List<Double> p2, List<Double> o1, List<Double> o2) {
+				calls[0]++;
+				super.crossover(p1, p2, o1, o2);
+			}
+		};
+
+		Random random = new Random(0);
+		DoubleGenotype p1 = genotype(random, 10);
+		DoubleGenotype p2 = genotype(random, 10);
+
+		crossover.crossover(p1, p2);
+		assertEquals(1, calls[0]);
+		assertEquals(10, crossover.crossoverLazy(p1, p2).getSecond().size());
+		assertEquals(2, calls[0]);
+		crossover.crossover(p1, p2, p1.newInstance(), p2.newInstance());
+		assertEquals(3, calls[0]);
+	}
+
+	@Test
+	public void sameOffspringForAllEntryPoints() {
+		for (boolean vectorized : new boolean[] { false, true }) {
+			Random random = new Random(0);
+			for (int size : new int[] { 1, 7, 64 }) {
+				DoubleGenotype p1 = genotype(random, size);
+				DoubleGenotype p2 = genotype(random, size);
+
+				CrossoverDoubleSBX a = new CrossoverDoubleSBX(15, new NormalizeDoubleBorder(), random(size));
+				CrossoverDoubleSBX b = new CrossoverDoubleSBX(15, new NormalizeDoubleBorder(), random(size));
+				CrossoverDoubleSBX c = new CrossoverDoubleSBX(15, new NormalizeDoubleBorder(), random(size));
+				a.setVectorized(vectorized);
+				b.setVectorized(vectorized);
+				c.setVectorized(vectorized);
+
+				Pair<DoubleGenotype> direct = a.crossover(p1, p2);
+				Pair<DoubleGenotype> lazy = b.crossoverLazy(p1, p2);
+				Pair<DoubleGenotype> reused = c.crossover(p1, p2, p1.newInstance(), p2.newInstance());
+
+				assertEquals(direct.getFirst(), lazy.getFirst());
+				assertEquals(direct.getSecond(), lazy.getSecond());
+				assertEquals(direct.getFirst(), reused.getFirst());
+				assertEquals(direct.getSecond(), reused.getSecond());
+			}
+		}
+	}
+
+	protected static final double[] NUS = { 0, 1, 2, 3.5, 5, 8, 15, 20 };
+
+	protected static DoubleGenotype bounded() {
+		return new DoubleGenotype(new Bounds<Double>() {
+			@Override
+			public Double getLowerBound(int index) {
+				return -1.0 * index;
+			}
+
+			@Override
+			public Double getUpperBound(int index) {
+				return index % 3 == 0 ? 1e-3 * (index + 1) : 2.0 * index + 1;
+			}
+		});
+	}
+
+	protected static void assertBounded(DoubleGenotype offspring) {
+		for (int i = 0; i < offspring.size(); i++) {
+			double value = offspring.get(i);
+			assertTrue(i + ": " + value, value >= offspring.getLowerBound(i) && value <= offspring.getUpperBound(i));
+		}
+	}
+
+	@Test
+	public void sbxBoundedWithinBounds() {
+		Random random = new Random(0);
+		int size = 30;
+		for (double nu : NUS) {
+			CrossoverDoubleSBXBounded crossover = new CrossoverDoubleSBXBounded(nu, new NormalizeDoubleBorder(),
+					random((long) (nu * 10)));
+			for (int k = 0; k < 200; k++) {
+				DoubleGenotype p1 = bounded();
+				DoubleGenotype p2 = bounded();
+				for (int i = 0; i < size; i++) {
+					double lb = p1.getLowerBound(i);
+					double ub = p1.getUpperBound(i);
+					double width = ub - lb;
+					// Parents at, close to, and (slightly) beyond the bounds.
+					switch (random.nextInt(5)) {
+					case 0:
+						p1.add(lb);
+						p2.add(random.nextBoolean() ? ub : lb);
+						break;
+					case 1:
+						double value = lb + random.nextDouble() * width;
+						p1.add(value);
+						p2.add(value);
+						break;
+					case 2:
+						p1.add(ub - 1e-12 * width);
+						p2.add(ub);
+						break;
+					case 3:
+						p1.add(lb - 0.1 * width);
+						p2.add(ub + random.nextDouble() * width);
+						break;
+					default:
+						p1.add(lb + random.nextDouble() * width);
+						p2.add(lb + random.nextDouble() * width);
+					}
+				}
+
+				Pair<DoubleGenotype> direct = crossover.crossover(p1, p2);
+				assertBounded(direct.getFirst());
+				assertBounded(direct.getSecond());
+				Pair<DoubleGenotype> lazy = crossover.crossoverLazy(p1, p2);
+				assertBounded(lazy.getFirst());
+				assertBounded(lazy.getSecond());
+				Pair<DoubleGenotype> reused = crossover.crossover(p1, p2, p1.newInstance(), p2.newInstance());
+				assertBounded(reused.getFirst());
+				assertBounded(reused.getSecond());
+			}
+		}
+	}
+
+	@Test
+	public void sbxBoundedPowers() {
+		Random random = new Random(0);
+		for (double nu : NUS) {
+			CrossoverDoubleSBXBounded crossover = new CrossoverDoubleSBXBounded(nu, new NormalizeDoubleBorder(),
+					random(0));
+			for (int k = 0; k < 1000; k++) {
+				double v = k == 0 ? 1 : random.nextDouble() * 4;
+				double power = Math.pow(v, nu + 1);
+				double root = Math.pow(v, 1 / (nu + 1));
+				assertEquals(power, crossover.power(v), 1e-12 * power);
+				assertEquals(root, crossover.root(v), 1e-12 * root);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.crossover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.opt4j.operators.Randoms.random;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.opt4j.core.genotype.PermutationGenotype;
+
+/**
+ * Tests the index-encoded {@link CrossoverPermutationOnePoint} and
+ * {@link CrossoverPermutationBucket} against the former implementations that
+ * track the elements in hash sets.
+ * 
+ * @author diewald
+ * 
+ */
+public class CrossoverPermutationIndexedTest {
+
+	protected static final int[] SIZES = { 0, 1, 2, 7, 64, 100 };
+
+	protected static PermutationGenotype<String> permutation(Random random, int size) {
+		PermutationGenotype<String> permutation = new PermutationGenotype<String>();
+		for (int i = 0; i < size; i++) {
+			permutation.add("e" + i);
+		}
+		permutation.init(random);
+		return permutation;
+	}
+
+	protected static void assertPermutation(List<?> parent, List<?> offspring) {
+		assertEquals(parent.size(), offspring.size());
+		assertEquals(new HashSet<Object>(parent), new HashSet<Object>(offspring));
+	}
+
+	/**
+	 * The former {@link CrossoverPermutationOnePoint}.
+	 */
+	protected static List<List<Object>> onePoint(Random random, boolean rotation, List<?> p1, List<?> p2) {
+		List<Object> o1 = new ArrayList<Object>();
+		List<Object> o2 = new ArrayList<Object>();
+		int size = p1.size();
+
+		if (size > 0) {
+			Set<Object> elements1 = new HashSet<Object>();
+			Set<Object> elements2 = new HashSet<Object>();
+
+			int offset = rotation ? random.nextInt(size) : 0;
+			int cutpoint = random.nextInt(size);
+
+			for (int i = 0; i < cutpoint; i++) {
+				final int pos = (offset + i) % size;
+				Object e1 = p1.get(pos);
+				Object e2 = p2.get(pos);
+				o1.add(e1);
+				o2.add(e2);
+				elements1.add(e1);
+				elements2.add(e2);
+			}
+
+			offset = rotation ? random.nextInt(size) : 0;
+
+			for (int i = 0; i < size; i++) {
+				final int pos = (offset + i) % size;
+				Object e1 = p1.get(pos);
+				Object e2 = p2.get(pos);
+				if (!elements1.contains(e2)) {
+					o1.add(e2);
+				}
+				if (!elements2.contains(e1)) {
+					o2.add(e1);
+				}
+			}
+		}
+
+		List<List<Object>> offspring = new ArrayList<List<Object>>();
+		offspring.add(o1);
+		offspring.add(o2);
+		return offspring;
+	}
+
+	/**
+	 * The former {@link CrossoverPermutationBucket}.
+	 */
+	protected static List<List<Object>> bucket(Random random, List<?> p1, List<?> p2) {
+		List<Object> o1 = new ArrayList<Object>();
+		List<Object> o2 = new ArrayList<Object>();
+		int size = p1.size();
+		Set<Object> elements = new HashSet<Object>();
+
+		int i = 0;
+		int j = 0;
+
+		while (o1.size() != size || o2.size() != size) {
+			Object e;
+			if (j == size || (random.nextBoolean() && i < size)) {
+				e = p1.get(i++);
+			} else {
+				e = p2.get(j++);
+			}
+			if (elements.add(e)) {
+				o1.add(e);
+			} else {
+				o2.add(e);
+			}
+		}
+
+		List<List<Object>> offspring = new ArrayList<List<Object>>();
+		offspring.add(o1);
+		offspring.add(o2);
+		return offspring;
+	}
+
+	@Test
+	public void onePoint() {
+		Random random = new Random(0);
+		for (boolean rotation : new boolean[] { false, true }) {
+			for (int size : SIZES) {
+				CrossoverPermutationOnePoint crossover = new CrossoverPermutationOnePoint(random(size), rotation);
+				Random reference = random(size);
+				for (int k = 0; k < 10; k++) {
+					PermutationGenotype<String> p1 = permutation(random, size);
+					PermutationGenotype<String> p2 = permutation(random, size);
+
+					Pair<PermutationGenotype<?>> offspring = crossover.crossover(p1, p2);
+					List<List<Object>> expected = onePoint(reference, rotation, p1, p2);
+
+					assertPermutation(p1, offspring.getFirst());
+					assertPermutation(p1, offspring.getSecond());
+					assertEquals(expected.get(0), offspring.getFirst());
+					assertEquals(expected.get(1), offspring.getSecond());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void bucket() {
+		Random random = new Random(0);
+		for (int size : SIZES) {
+			CrossoverPermutationBucket crossover = new CrossoverPermutationBucket(random(size));
+			Random reference = random(size);
+			for (int k = 0; k < 10; k++) {
+				PermutationGenotype<String> p1 = permutation(random, size);
+				PermutationGenotype<String> p2 = permutation(random, size);
+
+				Pair<PermutationGenotype<?>> offspring = crossover.crossover(p1, p2);
+				List<List<Object>> expected = bucket(reference, p1, p2);
+
+				assertPermutation(p1, offspring.getFirst());
+				assertPermutation(p1, offspring.getSecond());
+				assertEquals(expected.get(0), offspring.getFirst());
+				assertEquals(expected.get(1), offspring.getSecond());
+			}
+		}
+	}
+
+	@Test
+	public void reusedOffspring() {
+		Random random = new Random(0);
+		CrossoverPermutationOnePoint crossover = new CrossoverPermutationOnePoint(random(0), true);
+		PermutationGenotype<String> o1 = permutation(random, 3);
+		PermutationGenotype<String> o2 = permutation(random, 5);
+		for (int size : SIZES) {
+			PermutationGenotype<String> p1 = permutation(random, size);
+			PermutationGenotype<String> p2 = permutation(random, size);
+			Pair<PermutationGenotype<?>> offspring = crossover.crossover(p1, p2, o1, o2);
+			assertTrue(offspring.getFirst() == o1 && offspring.getSecond() == o2);
+			assertPermutation(p1, o1);
+			assertPermutation(p1, o2);
+		}
+	}
+
+}
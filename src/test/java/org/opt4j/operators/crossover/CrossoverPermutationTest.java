@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.crossover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.opt4j.operators.Randoms.random;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.opt4j.core.genotype.PermutationGenotype;
+
+/**
+ * Tests the linear time PMX, order, cycle, and edge recombination crossovers
+ * against the textbook implementations that search the parents with
+ * {@link List#indexOf(Object)}.
+ * 
+ * @author diewald
+ * 
+ */
+public class CrossoverPermutationTest {
+
+	protected static final int[] SIZES = { 1, 2, 3, 8, 50 };
+
+	protected static PermutationGenotype<String> permutation(Random random, int size) {
+		PermutationGenotype<String> permutation = new PermutationGenotype<String>();
+		for (int i = 0; i < size; i++) {
+			permutation.add("e" + i);
+		}
+		permutation.init(random);
+		return permutation;
+	}
+
+	protected static PermutationGenotype<Integer> permutation(Integer... elements) {
+		return new PermutationGenotype<Integer>(Arrays.asList(elements));
+	}
+
+	protected static void assertPermutation(List<?> parent, List<?> offspring) {
+		assertEquals(parent.size(), offspring.size());
+		assertEquals(new HashSet<Object>(parent), new HashSet<Object>(offspring));
+	}
+
+	/**
+	 * The textbook PMX: the segment {@code [lo, hi)} is taken from the first
+	 * parent and the mapping is followed with {@link List#indexOf(Object)}.
+	 */
+	protected static List<Object> pmx(List<?> p1, List<?> p2, int lo, int hi) {
+		int size = p1.size();
+		List<Object> offspring = new ArrayList<Object>();
+		for (int i = 0; i < size; i++) {
+			offspring.add(i >= lo && i < hi ? p1.get(i) : null);
+		}
+		for (int i = lo; i < hi; i++) {
+			Object e = p2.get(i);
+			if (!offspring.contains(e)) {
+				int pos = i;
+				while (pos >= lo && pos < hi) {
+					pos = p2.indexOf(p1.get(pos));
+				}
+				offspring.set(pos, e);
+			}
+		}
+		for (int i = 0; i < size; i++) {
+			if (offspring.get(i) == null) {
+				offspring.set(i, p2.get(i));
+			}
+		}
+		return offspring;
+	}
+
+	/**
+	 * The textbook order crossover: the segment {@code [lo, hi)} is taken from
+	 * the first parent, the remaining elements are taken in the order of the
+	 * second parent starting at the second cut point.
+	 */
+	protected static List<Object> order(List<?> p1, List<?> p2, int lo, int hi) {
+		int size = p1.size();
+		List<?> segment = p1.subList(lo, hi);
+		List<Object> rest = new ArrayList<Object>();
+		for (int i = 0; i < size; i++) {
+			Object e = p2.get((hi + i) % size);
+			if (!segment.contains(e)) {
+				rest.add(e);
+			}
+		}
+		Object[] offspring = new Object[size];
+		for (int i = lo; i < hi; i++) {
+			offspring[i] = p1.get(i);
+		}
+		for (int i = 0; i < rest.size(); i++) {
+			offspring[(hi + i) % size] = rest.get(i);
+		}
+		return Arrays.asList(offspring);
+	}
+
+	/**
+	 * The textbook cycle crossover: the cycles are taken alternately from the
+	 * first and the second parent.
+	 */
+	protected static List<List<Object>> cycle(List<?> p1, List<?> p2) {
+		int size = p1.size();
+		Object[] o1 = new Object[size];
+		Object[] o2 = new Object[size];
+		boolean swap = false;
+		for (int i = 0; i < size; i++) {
+			if (o1[i] == null) {
+				int j = i;
+				do {
+					o1[j] = swap ? p2.get(j) : p1.get(j);
+					o2[j] = swap ? p1.get(j) : p2.get(j);
+					j = p1.indexOf(p2.get(j));
+				} while (j != i);
+				swap = !swap;
+			}
+		}
+		List<List<Object>> offspring = new ArrayList<List<Object>>();
+		offspring.add(Arrays.asList(o1));
+		offspring.add(Arrays.asList(o2));
+		return offspring;
+	}
+
+	@Test
+	public void pmx() {
+		Random random = new Random(0);
+		for (int size : SIZES) {
+			CrossoverPermutationPMX crossover = new CrossoverPermutationPMX(random(size));
+			Random reference = random(size);
+			for (int k = 0; k < 20; k++) {
+				PermutationGenotype<String> p1 = permutation(random, size);
+				PermutationGenotype<String> p2 = permutation(random, size);
+
+				Pair<PermutationGenotype<?>> offspring = crossover.crossover(p1, p2);
+				int lo = reference.nextInt(size + 1);
+				int hi = reference.nextInt(size + 1);
+
+				assertPermutation(p1, offspring.getFirst());
+				assertPermutation(p1, offspring.getSecond());
+				assertEquals(pmx(p1, p2, Math.min(lo, hi), Math.max(lo, hi)), offspring.getFirst());
+				assertEquals(pmx(p2, p1, Math.min(lo, hi), Math.max(lo, hi)), offspring.getSecond());
+			}
+		}
+	}
+
+	@Test
+	public void order() {
+		Random random = new Random(0);
+		for (int size : SIZES) {
+			CrossoverPermutationOrder crossover = new CrossoverPermutationOrder(random(size));
+			Random reference = random(size);
+			for (int k = 0; k < 20; k++) {
+				PermutationGenotype<String> p1 = permutation(random, size);
+				PermutationGenotype<String> p2 = permutation(random, size);
+
+				Pair<PermutationGenotype<?>> offspring = crossover.crossover(p1, p2);
+				int lo = reference.nextInt(size + 1);
+				int hi = reference.nextInt(size + 1);
+
+				assertPermutation(p1, offspring.getFirst());
+				assertPermutation(p1, offspring.getSecond());
+				assertEquals(order(p1, p2, Math.min(lo, hi), Math.max(lo, hi)), offspring.getFirst());
+				assertEquals(order(p2, p1, Math.min(lo, hi), Math.max(lo, hi)), offspring.getSecond());
+			}
+		}
+	}
+
+	@Test
+	public void orderExample() {
+		List<Integer> p1 = permutation(1, 2, 3, 4, 5, 6, 7, 8);
+		List<Integer> p2 = permutation(8, 7, 6, 5, 4, 3, 2, 1);
+		assertEquals(Arrays.asList(7, 6, 3, 4, 5, 2, 1, 8), order(p1, p2, 2, 5));
+		assertEquals(Arrays.asList(2, 3, 6, 5, 4, 7, 8, 1), order(p2, p1, 2, 5));
+	}
+
+	@Test
+	public void cycle() {
+		CrossoverPermutationCycle crossover = new CrossoverPermutationCycle();
+		Pair<PermutationGenotype<?>> example = crossover.crossover(permutation(1, 2, 3, 4, 5, 6, 7, 8),
+				permutation(2, 1, 4, 3, 6, 5, 8, 7));
+		assertEquals(Arrays.asList(1, 2, 4, 3, 5, 6, 8, 7), example.getFirst());
+		assertEquals(Arrays.asList(2, 1, 3, 4, 6, 5, 7, 8), example.getSecond());
+
+		Random random = new Random(0);
+		for (int size : SIZES) {
+			for (int k = 0; k < 20; k++) {
+				PermutationGenotype<String> p1 = permutation(random, size);
+				PermutationGenotype<String> p2 = permutation(random, size);
+
+				Pair<PermutationGenotype<?>> offspring = crossover.crossover(p1, p2);
+				List<List<Object>> expected = cycle(p1, p2);
+
+				assertPermutation(p1, offspring.getFirst());
+				assertPermutation(p1, offspring.getSecond());
+				assertEquals(expected.get(0), offspring.getFirst());
+				assertEquals(expected.get(1), offspring.getSecond());
+
+				// Each element keeps the position of one parent.
+				for (int i = 0; i < size; i++) {
+					Object e1 = offspring.getFirst().get(i);
+					Object e2 = offspring.getSecond().get(i);
+					assertTrue((e1.equals(p1.get(i)) && e2.equals(p2.get(i)))
+							|| (e1.equals(p2.get(i)) && e2.equals(p1.get(i))));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void edgeRecombination() {
+		Random random = new Random(0);
+		for (int size : SIZES) {
+			CrossoverPermutationEdgeRecombination crossover = new CrossoverPermutationEdgeRecombination(random(size));
+			for (int k = 0; k < 20; k++) {
+				PermutationGenotype<String> p1 = permutation(random, size);
+				PermutationGenotype<String> p2 = permutation(random, size);
+
+				Pair<PermutationGenotype<?>> offspring = crossover.crossover(p1, p2);
+				assertPermutation(p1, offspring.getFirst());
+				assertPermutation(p1, offspring.getSecond());
+				assertEquals(p1.get(0), offspring.getFirst().get(0));
+				assertEquals(p2.get(0), offspring.getSecond().get(0));
+
+				// Identical parents only provide the edges of the parent.
+				List<?> o = crossover.crossover(p1, p1).getFirst();
+				for (int i = 1; i < size; i++) {
+					int pos = p1.indexOf(o.get(i - 1));
+					Object e = o.get(i);
+					assertTrue(e.equals(p1.get((pos + 1) % size)) || e.equals(p1.get((pos + size - 1) % size)));
+				}
+			}
+		}
+	}
+
+}
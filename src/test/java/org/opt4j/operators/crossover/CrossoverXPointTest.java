@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.crossover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.opt4j.operators.Randoms.random;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.Test;
+import org.opt4j.core.genotype.IntegerGenotype;
+
+/**
+ * Tests the crossover points of the {@link CrossoverListXPoint} that are drawn
+ * with Floyd's algorithm against the rejection sampling of the former
+ * implementation.
+ * 
+ * @author diewald
+ * 
+ */
+public class CrossoverXPointTest {
+
+	/**
+	 * The crossover points of the former implementation: distinct points from
+	 * {@code [1, size-1]} are drawn until {@code x} points are found.
+	 */
+	protected static int[] referencePoints(Random random, int x, int size) {
+		SortedSet<Integer> points = new TreeSet<Integer>();
+		while (points.size() < x) {
+			points.add(random.nextInt(size - 1) + 1);
+		}
+		int[] result = new int[x];
+		int i = 0;
+		for (int point : points) {
+			result[i++] = point;
+		}
+		return result;
+	}
+
+	protected static IntegerGenotype genotype(int from, int size) {
+		IntegerGenotype genotype = new IntegerGenotype(from, from + size - 1);
+		for (int i = 0; i < size; i++) {
+			genotype.add(from + i);
+		}
+		return genotype;
+	}
+
+	@Test
+	public void distinctOrderedPoints() {
+		for (int size : new int[] { 2, 3, 10, 65 }) {
+			for (int x = 1; x < size; x++) {
+				CrossoverIntegerXPoint crossover = new CrossoverIntegerXPoint(x, random(size * 100 + x));
+				for (int k = 0; k < 20; k++) {
+					int[] points = crossover.points(size);
+					assertEquals(x, points.length);
+					for (int i = 0; i < x; i++) {
+						assertTrue(points[i] >= 1 && points[i] <= size - 1);
+						assertTrue(i == 0 || points[i - 1] < points[i]);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void segmentsSwitchAtPoints() {
+		for (int size : new int[] { 2, 10, 65 }) {
+			for (int x : new int[] { 1, 3, size - 1 }) {
+				if (x > size - 1) {
+					continue;
+				}
+				CrossoverIntegerXPoint crossover = new CrossoverIntegerXPoint(x, random(x));
+				IntegerGenotype p1 = genotype(0, size);
+				IntegerGenotype p2 = genotype(size, size);
+				for (int k = 0; k < 20; k++) {
+					Pair<IntegerGenotype> offspring = crossover.crossover(p1, p2);
+					IntegerGenotype o1 = offspring.getFirst();
+					IntegerGenotype o2 = offspring.getSecond();
+					assertEquals(size, o1.size());
+					assertEquals(size, o2.size());
+
+					int switches = 0;
+					for (int i = 0; i < size; i++) {
+						boolean first = o1.get(i) < size;
+						assertEquals(first ? p2.get(i) : p1.get(i), o2.get(i));
+						if (i > 0 && first != (o1.get(i - 1) < size)) {
+							switches++;
+						}
+					}
+					assertEquals(x, switches);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void uniformPoints() {
+		int size = 6;
+		int x = 2;
+		int draws = 20000;
+		CrossoverIntegerXPoint crossover = new CrossoverIntegerXPoint(x, random(0));
+		Random random = new Random(0);
+
+		Map<String, Integer> floyd = new HashMap<String, Integer>();
+		Map<String, Integer> reference = new HashMap<String, Integer>();
+		for (int k = 0; k < draws; k++) {
+			floyd.merge(Arrays.toString(crossover.points(size)), 1, Integer::sum);
+			reference.merge(Arrays.toString(referencePoints(random, x, size)), 1, Integer::sum);
+		}
+
+		// All C(5, 2) = 10 subsets are equally likely.
+		assertEquals(10, floyd.size());
+		assertEquals(reference.keySet(), floyd.keySet());
+		double expected = draws / 10.0;
+		for (String points : floyd.keySet()) {
+			assertEquals(points, expected, floyd.get(points), 0.1 * expected);
+			assertEquals(points, expected, reference.get(points), 0.1 * expected);
+		}
+	}
+
+}
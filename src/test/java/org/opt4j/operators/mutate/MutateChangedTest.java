@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.mutate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.opt4j.operators.Randoms.random;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.core.genotype.DoubleGenotype;
+import org.opt4j.core.genotype.IntegerGenotype;
+import org.opt4j.core.genotype.PermutationGenotype;
+import org.opt4j.operators.normalize.NormalizeDoubleBorder;
+
+/**
+ * Tests that {@link Mutate#mutateChanged(org.opt4j.core.Genotype, double)}
+ * reports the changes of the mutate operators and respects overridden
+ * {@link Mutate#mutate(org.opt4j.core.Genotype, double)} methods.
+ * 
+ * @author diewald
+ * 
+ */
+public class MutateChangedTest {
+
+	@Test
+	public void reportsChanges() {
+		MutateBoolean mutate = new MutateBoolean(random(0));
+		for (double p : new double[] { 0.0, 0.01, 0.5 }) {
+			for (int k = 0; k < 20; k++) {
+				BooleanGenotype genotype = new BooleanGenotype();
+				genotype.init(random(k), 100);
+				List<Boolean> origin = new ArrayList<Boolean>(genotype);
+				boolean changed = mutate.mutateChanged(genotype, p);
+				assertEquals(!origin.equals(genotype), changed);
+			}
+		}
+
+		MutateDoubleGauss gauss = new MutateDoubleGauss(random(1), new NormalizeDoubleBorder(), 0.1);
+		for (double p : new double[] { 0.0, 0.01, 0.5 }) {
+			for (int k = 0; k < 20; k++) {
+				DoubleGenotype genotype = new DoubleGenotype(0, 1);
+				genotype.init(random(k), 100);
+				List<Double> origin = new ArrayList<Double>(genotype);
+				boolean changed = gauss.mutateChanged(genotype, p);
+				assertEquals(!origin.equals(genotype), changed);
+			}
+		}
+	}
+
+	@Test
+	public void overriddenMutate() {
+		final int[] calls = new int[1];
+		MutatePermutationSwap swap = new MutatePermutationSwap(random(0)) {
+			@Override
+			public void mutate(PermutationGenotype<?> genotype, double p) {
+				calls[0]++;
+			}
+		};
+		PermutationGenotype<Integer> permutation = new PermutationGenotype<Integer>();
+		for (int i = 0; i < 10; i++) {
+			permutation.add(i);
+		}
+		assertTrue(swap.mutateChanged(permutation, 1.0));
+		assertEquals(1, calls[0]);
+
+		MutateDoubleGauss gauss = new MutateDoubleGauss(random(1), new NormalizeDoubleBorder(), 0.1) {
+			@Override
+			protected void mutateList(DoubleGenotype vector, double p) {
+				calls[0]++;
+			}
+		};
+		DoubleGenotype genotype = new DoubleGenotype(0, 1);
+		genotype.init(random(2), 10);
+		List<Double> origin = new ArrayList<Double>(genotype);
+		assertTrue(gauss.mutateChanged(genotype, 1.0));
+		assertEquals(2, calls[0]);
+		assertEquals(origin, genotype);
+	}
+
+	@Test
+	public void unchangedAtRateZero() {
+		MutateIntegerRandom integer = new MutateIntegerRandom(random(0));
+		IntegerGenotype genotype = new IntegerGenotype(0, 9);
+		genotype.init(random(1), 50);
+		assertFalse(integer.mutateChanged(genotype, 0.0));
+	}
+
+}
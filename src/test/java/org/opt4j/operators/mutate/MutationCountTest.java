@@ -0,0 +1,345 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.mutate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.opt4j.operators.Randoms.random;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.core.genotype.DoubleGenotype;
+import org.opt4j.core.genotype.IntegerGenotype;
+import org.opt4j.core.genotype.PermutationGenotype;
+import org.opt4j.operators.PackedBooleans;
+import org.opt4j.operators.normalize.NormalizeDoubleBorder;
+
+/**
+ * Tests that the mutate operators that draw the mutated positions with the
+ * {@link org.opt4j.operators.SkipSampling} or with the Bernoulli masks of the
+ * {@link PackedBooleans} change as many genes as the former implementations
+ * with a Bernoulli trial per gene.
+ * 
+ * @author diewald
+ * 
+ */
+public class MutationCountTest {
+
+	protected static final int SIZE = 500;
+
+	protected static final int TRIALS = 2000;
+
+	protected static final double[] RATES = { 0.002, 0.02 };
+
+	/**
+	 * A mutation that returns the number of changed genes.
+	 */
+	protected interface Trial {
+		int changes();
+	}
+
+	/**
+	 * Returns the mean and the variance of the number of changed genes.
+	 */
+	protected static double[] moments(Trial trial) {
+		double sum = 0;
+		double squares = 0;
+		for (int k = 0; k < TRIALS; k++) {
+			int changes = trial.changes();
+			sum += changes;
+			squares += (double) changes * changes;
+		}
+		double mean = sum / TRIALS;
+		return new double[] { mean, squares / TRIALS - mean * mean };
+	}
+
+	/**
+	 * Asserts that the means are equal within five standard errors.
+	 */
+	protected static void assertSameMean(String message, double[] expected, double[] actual) {
+		double error = Math.sqrt((expected[1] + actual[1]) / TRIALS);
+		assertEquals(message, expected[0], actual[0], 5 * error + 1e-9);
+	}
+
+	/**
+	 * Returns the moments of a binomial distribution.
+	 */
+	protected static double[] binomial(int n, double p) {
+		return new double[] { n * p, n * p * (1 - p) };
+	}
+
+	protected static int changes(List<?> before, List<?> after) {
+		int changes = 0;
+		for (int i = 0; i < before.size(); i++) {
+			changes += before.get(i).equals(after.get(i)) ? 0 : 1;
+		}
+		return changes;
+	}
+
+	protected static PermutationGenotype<Integer> identity(int size) {
+		PermutationGenotype<Integer> permutation = new PermutationGenotype<Integer>();
+		for (int i = 0; i < size; i++) {
+			permutation.add(i);
+		}
+		return permutation;
+	}
+
+	protected static int changes(List<Integer> permutation) {
+		int changes = 0;
+		for (int i = 0; i < permutation.size(); i++) {
+			changes += permutation.get(i) == i ? 0 : 1;
+		}
+		return changes;
+	}
+
+	@Test
+	public void booleanFlips() {
+		for (final double p : RATES) {
+			final MutateBoolean mutate = new MutateBoolean(random(1));
+			final Random random = new Random(0);
+			double[] actual = moments(() -> {
+				BooleanGenotype genotype = new BooleanGenotype();
+				genotype.init(random, SIZE);
+				BooleanGenotype before = new BooleanGenotype();
+				before.addAll(genotype);
+				mutate.mutate(genotype, p);
+				return changes(before, genotype);
+			});
+			assertSameMean("p = " + p, binomial(SIZE, p), actual);
+		}
+	}
+
+	@Test
+	public void integerValues() {
+		for (final double p : RATES) {
+			final MutateIntegerRandom mutate = new MutateIntegerRandom(random(1));
+			final Random reference = random(2);
+			final Random random = new Random(0);
+			// A new value equals the former value with the probability 1/10.
+			double[] expected = moments(() -> {
+				IntegerGenotype genotype = new IntegerGenotype(0, 9);
+				genotype.init(random, SIZE);
+				IntegerGenotype before = new IntegerGenotype(0, 9);
+				before.addAll(genotype);
+				for (int i = 0; i < SIZE; i++) {
+					if (reference.nextDouble() < p) {
+						genotype.set(i, reference.nextInt(10));
+					}
+				}
+				return changes(before, genotype);
+			});
+			double[] actual = moments(() -> {
+				IntegerGenotype genotype = new IntegerGenotype(0, 9);
+				genotype.init(random, SIZE);
+				IntegerGenotype before = new IntegerGenotype(0, 9);
+				before.addAll(genotype);
+				mutate.mutate(genotype, p);
+				return changes(before, genotype);
+			});
+			assertSameMean("p = " + p, expected, actual);
+			assertSameMean("p = " + p, binomial(SIZE, 0.9 * p), actual);
+		}
+	}
+
+	@Test
+	public void doubleValues() {
+		for (final double p : RATES) {
+			final MutateDoubleGauss mutate = new MutateDoubleGauss(random(1), new NormalizeDoubleBorder(), 0.1);
+			// The former per-gene loop by means of the 4-argument hook.
+			final MutateDoubleGauss perGene = new MutateDoubleGauss(random(2), new NormalizeDoubleBorder(), 0.1) {
+				@Override
+				protected double mutateElement(double element, double lb, double ub, double p) {
+					return super.mutateElement(element, lb, ub, p);
+				}
+			};
+			assertTrue(MutateDoubleElementwise.SELECTED.get(mutate.getClass()));
+			assertFalse(MutateDoubleElementwise.SELECTED.get(perGene.getClass()));
+
+			for (MutateDoubleGauss operator : new MutateDoubleGauss[] { mutate, perGene }) {
+				final MutateDoubleGauss m = operator;
+				double[] actual = moments(() -> {
+					DoubleGenotype genotype = new DoubleGenotype(0, 1);
+					for (int i = 0; i < SIZE; i++) {
+						genotype.add(0.5);
+					}
+					m.mutate(genotype, p);
+					int changes = 0;
+					for (double value : genotype) {
+						changes += value == 0.5 ? 0 : 1;
+					}
+					return changes;
+				});
+				assertSameMean("p = " + p, binomial(SIZE, p), actual);
+			}
+		}
+	}
+
+	@Test
+	public void permutationSwaps() {
+		for (final double p : RATES) {
+			final MutatePermutationSwap mutate = new MutatePermutationSwap(random(1));
+			final Random reference = random(2);
+			double[] expected = moments(() -> {
+				PermutationGenotype<Integer> permutation = identity(SIZE);
+				for (int i = 0; i < SIZE; i++) {
+					if (reference.nextDouble() < p) {
+						int j;
+						do {
+							j = reference.nextInt(SIZE);
+						} while (j == i);
+						Collections.swap(permutation, i, j);
+					}
+				}
+				return changes(permutation);
+			});
+			double[] actual = moments(() -> {
+				PermutationGenotype<Integer> permutation = identity(SIZE);
+				mutate.mutate(permutation, p);
+				return changes(permutation);
+			});
+			assertSameMean("p = " + p, expected, actual);
+		}
+	}
+
+	@Test
+	public void permutationInserts() {
+		for (final double p : RATES) {
+			final MutatePermutationInsert mutate = new MutatePermutationInsert(random(1));
+			final Random reference = random(2);
+			double[] expected = moments(() -> {
+				PermutationGenotype<Integer> permutation = identity(SIZE);
+				for (int i = 0; i < SIZE; i++) {
+					if (reference.nextDouble() < p) {
+						Integer object = permutation.remove(i);
+						permutation.add(reference.nextInt(permutation.size()), object);
+					}
+				}
+				return changes(permutation);
+			});
+			double[] actual = moments(() -> {
+				PermutationGenotype<Integer> permutation = identity(SIZE);
+				mutate.mutate(permutation, p);
+				return changes(permutation);
+			});
+			assertSameMean("p = " + p, expected, actual);
+		}
+	}
+
+	@Test
+	public void permutationReverts() {
+		for (final double p : RATES) {
+			final MutatePermutationRevert mutate = new MutatePermutationRevert(random(1));
+			final Random reference = random(2);
+			double[] expected = moments(() -> {
+				PermutationGenotype<Integer> permutation = identity(SIZE);
+				for (int a = 0; a < SIZE - 1; a++) {
+					if (reference.nextDouble() < p) {
+						int b;
+						do {
+							b = a + reference.nextInt(SIZE - a);
+						} while (b == a);
+						while (a < b) {
+							Collections.swap(permutation, a, b);
+							a++;
+							b--;
+						}
+					}
+				}
+				return changes(permutation);
+			});
+			double[] actual = moments(() -> {
+				PermutationGenotype<Integer> permutation = identity(SIZE);
+				mutate.mutate(permutation, p);
+				return changes(permutation);
+			});
+			assertSameMean("p = " + p, expected, actual);
+		}
+	}
+
+	@Test
+	public void maskDigits() {
+		assertEquals(1, PackedBooleans.digits(0.5));
+		assertEquals(2, PackedBooleans.digits(0.25));
+		assertEquals(2, PackedBooleans.digits(0.75));
+		assertEquals(6, PackedBooleans.digits(1 / 64.0));
+		assertTrue(PackedBooleans.digits(0.3) > 8);
+	}
+
+	@Test
+	public void maskBits() {
+		int words = 20000;
+		for (double p : new double[] { 0.5, 0.25, 0.75, 0.3, 1 / 3.0, 0.02 }) {
+			long[] mask = new long[words];
+			PackedBooleans.bernoulli(random(1), p, mask);
+
+			int[] bits = new int[64];
+			double sum = 0;
+			double squares = 0;
+			for (long word : mask) {
+				int count = Long.bitCount(word);
+				sum += count;
+				squares += count * count;
+				for (int b = 0; b < 64; b++) {
+					bits[b] += (int) (word >>> b) & 1;
+				}
+			}
+
+			// Each bit is set with the probability p, independently of the
+			// other bits of the word.
+			double tolerance = 5 * Math.sqrt(p * (1 - p) / words);
+			for (int b = 0; b < 64; b++) {
+				assertEquals("p = " + p + ", bit " + b, p, (double) bits[b] / words, tolerance);
+			}
+			double mean = sum / words;
+			double variance = squares / words - mean * mean;
+			assertEquals("p = " + p, 64 * p, mean, 64 * tolerance);
+			assertEquals("p = " + p, 64 * p * (1 - p), variance, 0.05 * 64 * p * (1 - p));
+		}
+	}
+
+	@Test
+	public void maskFlips() {
+		for (final int size : new int[] { 1, 63, 64, 65, 1000 }) {
+			for (final double p : new double[] { 0.5, 0.25, 0.3 }) {
+				final MutateBoolean mutate = new MutateBoolean(random(size));
+				final Random random = new Random(0);
+				double[] actual = moments(() -> {
+					BooleanGenotype genotype = new BooleanGenotype();
+					genotype.init(random, size);
+					BooleanGenotype before = new BooleanGenotype();
+					before.addAll(genotype);
+					mutate.mutate(genotype, p);
+					assertEquals(size, genotype.size());
+					return changes(before, genotype);
+				});
+				assertSameMean("size = " + size + ", p = " + p, binomial(size, p), actual);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.mutate;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests that the {@link SelfAdaptiveMutationRate} adapts the rate at the same
+ * reports for the same sequence of reports.
+ * 
+ * @author diewald
+ * 
+ */
+public class SelfAdaptiveMutationRateTest {
+
+	protected static double[] trajectory(long seed, int reports) {
+		SelfAdaptiveMutationRate rate = new SelfAdaptiveMutationRate(null);
+		rate.initialize(100);
+		rate.isInit = true;
+
+		Random random = new Random(seed);
+		double[] rates = new double[reports];
+		for (int i = 0; i < reports; i++) {
+			rate.report(random.nextDouble() < 0.15);
+			rates[i] = rate.get();
+		}
+		return rates;
+	}
+
+	@Test
+	public void reproducible() {
+		double[] rates = trajectory(0, 5000);
+		assertArrayEquals(rates, trajectory(0, 5000), 0);
+		assertTrue(rates[rates.length - 1] < 0.01);
+	}
+
+}
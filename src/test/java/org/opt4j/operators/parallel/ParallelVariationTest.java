@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.parallel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.opt4j.operators.Randoms.random;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.AbstractMap.SimpleEntry;
+
+import org.junit.Test;
+import org.opt4j.core.Genotype;
+import org.opt4j.core.common.random.Rand;
+import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.core.optimizer.Operator;
+import org.opt4j.operators.AbstractGenericOperator.OperatorClassPredicate;
+import org.opt4j.operators.copy.Copy;
+import org.opt4j.operators.copy.CopyList;
+import org.opt4j.operators.crossover.Crossover;
+import org.opt4j.operators.crossover.CrossoverBooleanDefault;
+import org.opt4j.operators.crossover.Pair;
+import org.opt4j.operators.mutate.Mutate;
+import org.opt4j.operators.mutate.MutateBoolean;
+import org.opt4j.operators.mutate.MutateGenericImplementation;
+import org.opt4j.operators.selection.AdaptivePursuitOperatorSelector;
+import org.opt4j.operators.selection.IOperatorSelector;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+/**
+ * Tests that the {@link ParallelVariation} creates the same offspring for any
+ * number of threads and threshold, and that it does not draw from a
+ * {@link Rand} that is not intercepted.
+ * 
+ * @author diewald
+ * 
+ */
+public class ParallelVariationTest {
+
+	protected static final int SIZE = 200;
+
+	protected static final int OFFSPRING = 100;
+
+	/**
+	 * Seeded {@link Rand} that is created by Guice.
+	 */
+	public static class TestRand extends Rand {
+
+		private static final long serialVersionUID = 1L;
+
+		@Inject
+		public TestRand() {
+			setSeed(42);
+		}
+	}
+
+	/**
+	 * Mutate with a higher mutation rate, such that the selected operator
+	 * matters for the offspring.
+	 */
+	protected static class DenseMutateBoolean extends MutateBoolean {
+
+		public DenseMutateBoolean(Rand random) {
+			super(random);
+		}
+
+		@Override
+		protected boolean doMutate(BooleanGenotype genotype, double p) {
+			return super.doMutate(genotype, 0.5);
+		}
+	}
+
+	/**
+	 * The variation of one run of the test and the selector of its mutate.
+	 */
+	protected static class Setup {
+
+		protected final ParallelVariation variation;
+
+		protected final IOperatorSelector selector;
+
+		protected final Rand random;
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		protected Setup(int threads, int threshold, SelectorFactory factory) {
+			Injector injector = Guice.createInjector(new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(Rand.class).to(TestRand.class);
+				}
+			}, new ParallelVariationModule());
+			random = injector.getInstance(Rand.class);
+
+			selector = factory.create(random);
+			MutateGenericImplementation mutate = new MutateGenericImplementation() {
+				{
+					operatorSelectors = new HashMap<>();
+				}
+			};
+			Mutate sparse = new MutateBoolean(random);
+			Mutate dense = new DenseMutateBoolean(random);
+			mutate.addOperator(new OperatorClassPredicate(BooleanGenotype.class), sparse);
+			mutate.addOperator(new OperatorClassPredicate(BooleanGenotype.class), dense);
+			mutate.addOperatorSelector(new SimpleEntry<Class<? extends Genotype>, Class<? extends Operator<?>>>(
+					BooleanGenotype.class, sparse.getOperatorType()), selector);
+
+			Crossover crossover = new CrossoverBooleanDefault(random);
+			Copy copy = new CopyList();
+			variation = new ParallelVariation(crossover, (Mutate) mutate, copy, random,
+					injector.getInstance(ParallelRand.class), threads, threshold);
+		}
+	}
+
+	/**
+	 * Creates the selector of a run.
+	 */
+	protected interface SelectorFactory {
+		public IOperatorSelector create(Rand random);
+	}
+
+	protected static final SelectorFactory ADAPTIVE = new SelectorFactory() {
+		@Override
+		public IOperatorSelector create(Rand random) {
+			return new AdaptivePursuitOperatorSelector(random);
+		}
+	};
+
+	/**
+	 * Runs two generations and returns the offspring and the changed flags.
+	 */
+	protected static List<Object> run(Setup setup) {
+		List<Object> result = new ArrayList<Object>();
+		List<Genotype> parents = new ArrayList<Genotype>();
+		for (int i = 0; i < OFFSPRING; i++) {
+			BooleanGenotype genotype = new BooleanGenotype();
+			genotype.init(setup.random, SIZE);
+			parents.add(genotype);
+		}
+
+		for (int generation = 0; generation < 2; generation++) {
+			List<Pair<Genotype>> pairs = new ArrayList<Pair<Genotype>>();
+			for (int i = 0; i < parents.size(); i += 2) {
+				pairs.add(new Pair<Genotype>(parents.get(i), parents.get(i + 1)));
+			}
+			List<Genotype> offspring = new ArrayList<Genotype>();
+			for (Pair<Genotype> pair : setup.variation.crossover(pairs)) {
+				offspring.add(pair.getFirst());
+				offspring.add(pair.getSecond());
+			}
+			offspring = setup.variation.copy(offspring);
+			boolean[] changed = setup.variation.mutate(offspring, 0.01);
+
+			result.add(new ArrayList<Genotype>(offspring));
+			result.add(toString(changed));
+			parents = offspring;
+		}
+		result.add(setup.random.nextLong());
+		setup.variation.shutdown();
+		return result;
+	}
+
+	protected static String toString(boolean[] values) {
+		StringBuilder builder = new StringBuilder();
+		for (boolean value : values) {
+			builder.append(value ? '1' : '0');
+		}
+		return builder.toString();
+	}
+
+	@Test
+	public void sameOffspringForAnyThreads() {
+		Setup sequential = new Setup(1, Integer.MAX_VALUE, ADAPTIVE);
+		assertTrue(sequential.variation.parallel);
+		List<Object> expected = run(sequential);
+
+		int[][] configurations = { { 1, 1 }, { 2, 1 }, { 4, 3 }, { 8, 16 }, { 3, 7 } };
+		for (int[] configuration : configurations) {
+			Setup setup = new Setup(configuration[0], configuration[1], ADAPTIVE);
+			assertEquals(expected, run(setup));
+		}
+	}
+
+	@Test
+	public void sequentialForNonParallelizableSelector() {
+		final List<Thread> threads = new ArrayList<Thread>();
+		SelectorFactory recording = new SelectorFactory() {
+			@Override
+			public IOperatorSelector create(Rand random) {
+				return new IOperatorSelector() {
+					@Override
+					public <O extends Operator<?>> O select(List<O> applicableOperators, Genotype genotype) {
+						threads.add(Thread.currentThread());
+						return applicableOperators.get(0);
+					}
+				};
+			}
+		};
+		run(new Setup(4, 1, recording));
+		assertEquals(2 * OFFSPRING, threads.size());
+		for (Thread thread : threads) {
+			assertSame(Thread.currentThread(), thread);
+		}
+	}
+
+	@Test
+	public void interceptsConstructedRand() {
+		Injector injector = Guice.createInjector(new AbstractModule() {
+			@Override
+			protected void configure() {
+				bind(Rand.class).to(TestRand.class);
+			}
+		}, new ParallelVariationModule());
+		ParallelRand parallelRand = injector.getInstance(ParallelRand.class);
+		assertTrue(parallelRand.intercepts(injector.getInstance(Rand.class)));
+		assertFalse(parallelRand.intercepts(random(7)));
+	}
+
+	@Test
+	public void noDrawsWithoutInterception() {
+		final Rand random = random(7);
+		Injector injector = Guice.createInjector(new AbstractModule() {
+			@Override
+			protected void configure() {
+				bind(Rand.class).toInstance(random);
+			}
+		}, new ParallelVariationModule());
+		ParallelRand parallelRand = injector.getInstance(ParallelRand.class);
+
+		ParallelVariation variation = new ParallelVariation(null, null, null, random, parallelRand, 2, 1);
+		assertFalse(variation.parallel);
+		variation.shutdown();
+
+		Rand reference = random(7);
+		assertEquals(reference.nextLong(), random.nextLong());
+	}
+
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+
+package org.opt4j.operators.selection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.opt4j.operators.Randoms.random;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.HashMap;
+
+import org.junit.Test;
+import org.opt4j.core.Genotype;
+import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.core.optimizer.Operator;
+import org.opt4j.operators.AbstractGenericOperator.OperatorClassPredicate;
+import org.opt4j.operators.mutate.Mutate;
+import org.opt4j.operators.mutate.MutateGenericImplementation;
+
+/**
+ * Tests the crediting of the {@link AdaptivePursuitOperatorSelector}.
+ * 
+ * @author diewald
+ * 
+ */
+public class AdaptivePursuitOperatorSelectorTest {
+
+	/**
+	 * Mutate that does not change the genotype.
+	 */
+	protected static class TestMutate implements Mutate<Genotype> {
+		@Override
+		public void mutate(Genotype genotype, double p) {
+			// nothing to do
+		}
+	}
+
+	protected static AdaptivePursuitOperatorSelector selector() {
+		return new AdaptivePursuitOperatorSelector(random(0));
+	}
+
+	@Test
+	public void creditProducedOffspring() {
+		AdaptivePursuitOperatorSelector selector = selector();
+		TestMutate mutate = new TestMutate();
+		BooleanGenotype offspring = new BooleanGenotype();
+
+		selector.produced(mutate, offspring);
+		assertTrue(selector.credit(offspring, 1.0));
+		assertEquals(1, selector.getCredits(mutate));
+		assertTrue(selector.getQuality(mutate) > 0);
+
+		// Offspring of several operators credit each of them.
+		TestMutate other = new TestMutate();
+		selector.produced(mutate, offspring);
+		selector.produced(other, offspring);
+		selector.produced(other, offspring);
+		assertTrue(selector.credit(offspring, 1.0));
+		assertEquals(2, selector.getCredits(mutate));
+		assertEquals(2, selector.getCredits(other));
+
+		// Each offspring is credited once.
+		assertFalse(selector.credit(offspring, 1.0));
+		assertFalse(selector.credit(new BooleanGenotype(), 1.0));
+	}
+
+	@Test
+	public void creditThroughGenericImplementation() {
+		final AdaptivePursuitOperatorSelector selector = selector();
+		TestMutate first = new TestMutate();
+		TestMutate second = new TestMutate();
+
+		MutateGenericImplementation generic = new MutateGenericImplementation() {
+			{
+				operatorSelectors = new HashMap<>();
+			}
+		};
+		generic.addOperator(new OperatorClassPredicate(BooleanGenotype.class), first);
+		generic.addOperator(new OperatorClassPredicate(BooleanGenotype.class), second);
+		generic.addOperatorSelector(new SimpleEntry<Class<? extends Genotype>, Class<? extends Operator<?>>>(
+				BooleanGenotype.class, first.getOperatorType()), selector);
+
+		// The first operator is selected initially and credited afterwards.
+		int credited = 0;
+		for (int i = 0; i < 100; i++) {
+			BooleanGenotype genotype = new BooleanGenotype();
+			generic.mutate(genotype, 0.1);
+			if (selector.credit(genotype, 1.0)) {
+				credited++;
+			}
+		}
+		assertEquals(100, credited);
+		assertEquals(100, selector.getCredits(first) + selector.getCredits(second));
+		assertTrue(selector.getCredits(first) > selector.getCredits(second));
+	}
+
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Opt4J
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package org.opt4j.operators.selection;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.opt4j.core.genotype.BooleanGenotype;
+import org.opt4j.operators.mutate.Mutate;
+import org.opt4j.operators.selection.AdaptivePursuitOperatorSelectorTest.TestMutate;
+
+/**
+ * Tests the rotation of the {@link RoundRobinOperatorSelector}.
+ * 
+ * @author diewald
+ * 
+ */
+public class RoundRobinOperatorSelectorTest {
+
+	@Test
+	public void rotateAcrossOffspring() {
+		RoundRobinOperatorSelector selector = new RoundRobinOperatorSelector();
+		List<Mutate<?>> operators = Arrays.asList(new TestMutate(), new TestMutate(), new TestMutate());
+
+		// Each fresh offspring continues the rotation of the selector.
+		for (int i = 0; i < 7; i++) {
+			assertSame(operators.get(i % 3), selector.select(operators, new BooleanGenotype()));
+		}
+	}
+
+	@Test
+	public void noApplicableOperators() {
+		RoundRobinOperatorSelector selector = new RoundRobinOperatorSelector();
+		assertNull(selector.select(Collections.<Mutate<?>> emptyList(), new BooleanGenotype()));
+	}
+}